@@ -0,0 +1,71 @@
+package project.roguelike.benchmarks;
+
+import com.badlogic.gdx.math.Vector2;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import project.roguelike.core.RoomContentGenerator;
+import project.roguelike.core.RoomContentPlan;
+import project.roguelike.levels.LayoutGenerator;
+import project.roguelike.levels.LevelGenerator;
+import project.roguelike.levels.RoomData;
+import project.roguelike.rooms.NormalRoom;
+import project.roguelike.rooms.Room;
+
+/** Floor and room construction: LevelGenerator.generateLevel and RoomContentGenerator.generate. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContentGenerationBenchmark {
+    private static final long SEED = 2137L;
+    private static final int PLANNED_ENEMIES = 8;
+    private static final int PLANNED_ITEMS = 4;
+    private static final int PLANNED_TRAPS = 4;
+    private static final int TRAP_DAMAGE = 1;
+    private static final String[] ITEM_IDS = { "coin", "key", "small_health_potion", "damage_boost" };
+
+    private final LevelGenerator levelGenerator = new LevelGenerator();
+    private RoomData[][] layout;
+    private RoomContentPlan plan;
+    private Room room;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        HeadlessBackend.start();
+        layout = new LayoutGenerator().generate(SEED);
+
+        plan = new RoomContentPlan();
+        for (int i = 0; i < PLANNED_ENEMIES; i++) {
+            plan.enemies.add(new RoomContentPlan.EnemySpawn(i % 2 == 0 ? "goblin" : "orc", null));
+        }
+        for (int i = 0; i < PLANNED_ITEMS; i++) {
+            plan.items.add(new RoomContentPlan.ItemSpawn(ITEM_IDS[i % ITEM_IDS.length], null));
+        }
+        for (int i = 0; i < PLANNED_TRAPS; i++) {
+            plan.traps.add(new RoomContentPlan.TrapSpawn(null, TRAP_DAMAGE));
+        }
+        plan.chests.add(new RoomContentPlan.ChestSpawn(null));
+    }
+
+    @Setup(Level.Invocation)
+    public void freshRoom() {
+        room = new NormalRoom(new Vector2(0f, 0f), Room.RoomShape.O_SHAPE);
+    }
+
+    @Benchmark
+    public Room generateRoomContent() {
+        RoomContentGenerator.generate(room, plan);
+        return room;
+    }
+
+    @Benchmark
+    public Object generateLevel() {
+        return levelGenerator.generateLevel(layout);
+    }
+}
@@ -0,0 +1,80 @@
+package project.roguelike.benchmarks;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import project.roguelike.core.GameConfig;
+import project.roguelike.entities.Enemy;
+import project.roguelike.entities.GoblinEnemy;
+import project.roguelike.entities.Player;
+import project.roguelike.rooms.NormalRoom;
+import project.roguelike.rooms.Room;
+
+/** Enemy.avoidCollisions for every enemy of a crowd, measured against the room's spatial grid. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EnemySeparationBenchmark {
+    private static final long SEED = 2137L;
+
+    @Param({ "16", "64", "256", "1024" })
+    public int crowdSize;
+
+    private final Vector2 nextPosition = new Vector2();
+    private ProbeEnemy[] crowd;
+
+    /** Exposes the protected separation step without widening it in core. */
+    static final class ProbeEnemy extends GoblinEnemy {
+        ProbeEnemy(Vector2 spawnPos) {
+            super(spawnPos);
+        }
+
+        void separate(Vector2 next) {
+            avoidCollisions(next);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void populateRoom() {
+        HeadlessBackend.start();
+
+        RandomXS128 random = new RandomXS128(SEED);
+        Room room = new NormalRoom(new Vector2(0f, 0f), Room.RoomShape.O_SHAPE);
+        Vector2 origin = room.getPosition();
+        List<Enemy> enemies = room.getEnemies();
+        crowd = new ProbeEnemy[crowdSize];
+        for (int i = 0; i < crowdSize; i++) {
+            ProbeEnemy enemy = new ProbeEnemy(new Vector2(
+                    origin.x + random.nextFloat() * GameConfig.ROOM_WIDTH,
+                    origin.y + random.nextFloat() * GameConfig.ROOM_HEIGHT));
+            enemy.setParentRoom(room);
+            enemies.add(enemy);
+            crowd[i] = enemy;
+        }
+        room.setContentGenerated(true);
+        room.activate();
+
+        // One tick builds the enemy grid that avoidCollisions queries.
+        Vector2 center = room.getCenter();
+        Player player = new Player(center.x, center.y, GameConfig.PLAYER_SIZE, GameConfig.PLAYER_SIZE);
+        room.update(0f, player);
+    }
+
+    @Benchmark
+    public Vector2 avoidCollisions() {
+        for (ProbeEnemy enemy : crowd) {
+            enemy.separate(nextPosition.set(enemy.getPosition()));
+        }
+        return nextPosition;
+    }
+}
@@ -0,0 +1,45 @@
+package project.roguelike.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import project.roguelike.core.AssetRegistry;
+
+/** Boots the headless libGDX backend once per benchmark fork so core classes find Gdx.files and a mock GL. */
+final class HeadlessBackend {
+    private static final long START_TIMEOUT_SECONDS = 10L;
+
+    private static HeadlessApplication application;
+
+    private HeadlessBackend() {
+    }
+
+    static synchronized void start() {
+        if (application != null) {
+            return;
+        }
+
+        final CountDownLatch created = new CountDownLatch(1);
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1;
+
+        application = new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                created.countDown();
+            }
+        }, configuration);
+
+        try {
+            if (!created.await(START_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Headless backend did not start");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting headless backend", e);
+        }
+        AssetRegistry.setHeadless(true);
+    }
+}
@@ -0,0 +1,75 @@
+package project.roguelike.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import project.roguelike.core.GameConfig;
+import project.roguelike.entities.Player;
+import project.roguelike.items.passiveItems.BulletSpeedBoost;
+import project.roguelike.items.passiveItems.DamageBoost;
+import project.roguelike.items.passiveItems.FireRateBoost;
+import project.roguelike.items.passiveItems.MagazineSizeBoost;
+import project.roguelike.items.passiveItems.MaxHpBoost;
+import project.roguelike.items.passiveItems.MovementSpeedBoost;
+import project.roguelike.items.passiveItems.PassiveItem;
+import project.roguelike.items.passiveItems.ReloadSpeedBoost;
+
+/**
+ * Player.recomputeStatsFromPassives with a stack of passives. It is private, so each invocation picks up one
+ * more passive through addPassiveItem and drops it again to keep the stack size fixed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PassiveStatsBenchmark {
+    @Param({ "1", "16", "128" })
+    public int stackedPassives;
+
+    private Player player;
+    private PassiveItem extra;
+
+    @Setup(Level.Trial)
+    public void stackPassives() {
+        HeadlessBackend.start();
+        player = new Player(0f, 0f, GameConfig.PLAYER_SIZE, GameConfig.PLAYER_SIZE);
+        for (int i = 0; i < stackedPassives; i++) {
+            player.addPassiveItem(createPassive(i));
+        }
+        extra = new DamageBoost();
+    }
+
+    @Benchmark
+    public Player recomputeStats() {
+        player.addPassiveItem(extra);
+        List<PassiveItem> passives = player.getPassiveItems();
+        passives.remove(passives.size() - 1);
+        return player;
+    }
+
+    private static PassiveItem createPassive(int index) {
+        switch (index % 7) {
+            case 0:
+                return new DamageBoost();
+            case 1:
+                return new FireRateBoost();
+            case 2:
+                return new MovementSpeedBoost();
+            case 3:
+                return new ReloadSpeedBoost();
+            case 4:
+                return new BulletSpeedBoost();
+            case 5:
+                return new MagazineSizeBoost();
+            default:
+                return new MaxHpBoost();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package project.roguelike.benchmarks;
+
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import project.roguelike.core.GameConfig;
+import project.roguelike.entities.Bullet;
+import project.roguelike.entities.Enemy;
+import project.roguelike.entities.GoblinEnemy;
+import project.roguelike.entities.OrcEnemy;
+import project.roguelike.entities.Player;
+import project.roguelike.rooms.NormalRoom;
+import project.roguelike.rooms.Room;
+
+/** One simulation tick of a room: enemy AI, movement, separation and bullet collision. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoomUpdateBenchmark {
+    private static final long SEED = 2137L;
+    private static final float DELTA = 1f / GameConfig.SIMULATION_TICK_RATE;
+
+    @Param({ "8", "64", "256" })
+    public int enemies;
+
+    @Param({ "32" })
+    public int bullets;
+
+    private final RandomXS128 random = new RandomXS128();
+    private final Vector2 spawn = new Vector2();
+    private final Vector2 direction = new Vector2();
+    private Room room;
+    private Player player;
+
+    @Setup(Level.Trial)
+    public void startBackend() {
+        HeadlessBackend.start();
+    }
+
+    @Setup(Level.Iteration)
+    public void populateRoom() {
+        random.setSeed(SEED);
+        room = new NormalRoom(new Vector2(0f, 0f), Room.RoomShape.O_SHAPE);
+        Vector2 center = room.getCenter();
+        player = new Player(center.x, center.y, GameConfig.PLAYER_SIZE, GameConfig.PLAYER_SIZE);
+
+        List<Enemy> roomEnemies = room.getEnemies();
+        for (int i = 0; i < enemies; i++) {
+            Vector2 position = randomPosition(new Vector2());
+            Enemy enemy = i % 2 == 0 ? new GoblinEnemy(position) : new OrcEnemy(position);
+            enemy.setParentRoom(room);
+            roomEnemies.add(enemy);
+        }
+        room.setContentGenerated(true);
+        room.activate();
+    }
+
+    @Benchmark
+    public Room updateWithBullets() {
+        refillBullets();
+        List<Bullet> active = player.getBullets();
+        for (int i = 0; i < active.size(); i++) {
+            active.get(i).update(DELTA);
+        }
+        room.update(DELTA, player);
+        player.releaseSpentBullets(room);
+        return room;
+    }
+
+    private void refillBullets() {
+        List<Bullet> active = player.getBullets();
+        while (active.size() < bullets) {
+            active.add(player.getBulletPool().obtain());
+        }
+        for (int i = 0; i < active.size(); i++) {
+            Bullet bullet = active.get(i);
+            if (!bullet.isActive()) {
+                Vector2 position = randomPosition(spawn);
+                direction.set(random.nextFloat() - 0.5f, random.nextFloat() - 0.5f);
+                bullet.init(position.x, position.y, direction);
+                bullet.setDamage(0f);
+            }
+        }
+    }
+
+    private Vector2 randomPosition(Vector2 out) {
+        Vector2 origin = room.getPosition();
+        return out.set(origin.x + random.nextFloat() * GameConfig.ROOM_WIDTH,
+                origin.y + random.nextFloat() * GameConfig.ROOM_HEIGHT);
+    }
+}
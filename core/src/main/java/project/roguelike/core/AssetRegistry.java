@@ -0,0 +1,286 @@
+package project.roguelike.core;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class AssetRegistry {
+    private static final int PNG_HEADER_SIZE = 16;
+    private static final String ATLAS_PATH = "atlas/game.atlas";
+    private static final String IMAGE_EXTENSION = ".png";
+    private static final String ASSET_LIST_PATH = "assets.txt";
+
+    private static AssetManager manager;
+    private static TextureAtlas atlas;
+    private static boolean atlasResolved = false;
+    private static Set<String> packedRegionNames;
+    private static boolean headless = false;
+    private static final Map<String, TextureRegion> regionCache = new HashMap<>();
+    private static final Map<String, TextureRegion[]> framesCache = new HashMap<>();
+    private static final Map<String, Animation<TextureRegion>> animationCache = new HashMap<>();
+    private static final Map<String, GridPoint2> sizeCache = new HashMap<>();
+
+    public static void setHeadless(boolean headless) {
+        AssetRegistry.headless = headless;
+    }
+
+    public static boolean isHeadless() {
+        return headless;
+    }
+
+    public static Texture getTexture(String path) {
+        if (headless) {
+            return null;
+        }
+
+        AssetManager assets = getManager();
+        if (!assets.isLoaded(path, Texture.class)) {
+            assets.load(path, Texture.class);
+            return assets.finishLoadingAsset(path);
+        }
+        return assets.get(path, Texture.class);
+    }
+
+    public static TextureRegion getRegion(String path) {
+        if (headless) {
+            return null;
+        }
+
+        TextureRegion region = regionCache.get(path);
+        if (region == null) {
+            region = findPackedRegion(path);
+            if (region == null) {
+                region = new TextureRegion(getTexture(path));
+            }
+            regionCache.put(path, region);
+        }
+        return region;
+    }
+
+    public static boolean isPacked(String path) {
+        return !headless && path.endsWith(IMAGE_EXTENSION) && getPackedRegionNames().contains(toRegionName(path));
+    }
+
+    public static boolean hasAtlas() {
+        return !headless && Gdx.files.internal(ATLAS_PATH).exists();
+    }
+
+    public static int queueTextures(String directory) {
+        if (headless) {
+            return 0;
+        }
+
+        AssetManager assets = getManager();
+        int queued = 0;
+        if (hasAtlas() && !assets.isLoaded(ATLAS_PATH)) {
+            assets.load(ATLAS_PATH, TextureAtlas.class);
+            queued++;
+        }
+
+        for (String path : listAssets(directory, IMAGE_EXTENSION)) {
+            if (isPacked(path) || assets.isLoaded(path)) {
+                continue;
+            }
+            assets.load(path, Texture.class);
+            queued++;
+        }
+        return queued;
+    }
+
+    public static boolean updateLoading(int budgetMillis) {
+        if (headless || manager == null) {
+            return true;
+        }
+        return manager.update(Math.max(1, budgetMillis));
+    }
+
+    public static float getLoadingProgress() {
+        return manager != null ? manager.getProgress() : 1f;
+    }
+
+    public static Texture getRepeatingTexture(String path) {
+        Texture texture = getTexture(path);
+        if (texture != null) {
+            texture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
+        }
+        return texture;
+    }
+
+    public static GridPoint2 getTextureSize(String path) {
+        GridPoint2 size = sizeCache.get(path);
+        if (size == null) {
+            if (headless) {
+                size = readPngSize(path);
+            } else {
+                TextureRegion region = getRegion(path);
+                size = new GridPoint2(region.getRegionWidth(), region.getRegionHeight());
+            }
+            sizeCache.put(path, size);
+        }
+        return size;
+    }
+
+    public static TextureRegion[] getFrames(String path, int frameWidth, int frameHeight) {
+        String key = path + "#" + frameWidth + "x" + frameHeight;
+        TextureRegion[] frames = framesCache.get(key);
+        if (frames == null) {
+            frames = headless
+                    ? createBlankFrames(path, frameWidth)
+                    : getRegion(path).split(frameWidth, frameHeight)[0];
+            framesCache.put(key, frames);
+        }
+        return frames;
+    }
+
+    public static TextureRegion[] getFlippedFrames(String path, int frameWidth, int frameHeight) {
+        String key = path + "#" + frameWidth + "x" + frameHeight + "~flipX";
+        TextureRegion[] flipped = framesCache.get(key);
+        if (flipped == null) {
+            TextureRegion[] frames = getFrames(path, frameWidth, frameHeight);
+            flipped = new TextureRegion[frames.length];
+            for (int i = 0; i < frames.length; i++) {
+                if (headless) {
+                    flipped[i] = new TextureRegion();
+                } else {
+                    flipped[i] = new TextureRegion(frames[i]);
+                    flipped[i].flip(true, false);
+                }
+            }
+            framesCache.put(key, flipped);
+        }
+        return flipped;
+    }
+
+    public static Animation<TextureRegion> getAnimation(String path, int frameWidth, int frameHeight,
+            float frameDuration, Animation.PlayMode playMode) {
+        String key = path + "#" + frameWidth + "x" + frameHeight + "@" + frameDuration + ":" + playMode;
+        Animation<TextureRegion> animation = animationCache.get(key);
+        if (animation == null) {
+            animation = new Animation<>(frameDuration, getFrames(path, frameWidth, frameHeight));
+            animation.setPlayMode(playMode);
+            animationCache.put(key, animation);
+        }
+        return animation;
+    }
+
+    public static void dispose() {
+        framesCache.clear();
+        animationCache.clear();
+        sizeCache.clear();
+        regionCache.clear();
+        atlas = null;
+        atlasResolved = false;
+        packedRegionNames = null;
+        if (manager != null) {
+            manager.dispose();
+            manager = null;
+        }
+    }
+
+    private static AssetManager getManager() {
+        if (manager == null) {
+            manager = new AssetManager();
+        }
+        return manager;
+    }
+
+    private static TextureAtlas getAtlas() {
+        if (!atlasResolved) {
+            atlasResolved = true;
+            if (hasAtlas()) {
+                AssetManager assets = getManager();
+                if (!assets.isLoaded(ATLAS_PATH)) {
+                    assets.load(ATLAS_PATH, TextureAtlas.class);
+                }
+                atlas = assets.finishLoadingAsset(ATLAS_PATH);
+            }
+        }
+        return atlas;
+    }
+
+    private static TextureRegion findPackedRegion(String path) {
+        TextureAtlas packed = getAtlas();
+        if (packed == null || !path.endsWith(IMAGE_EXTENSION)) {
+            return null;
+        }
+        return packed.findRegion(toRegionName(path));
+    }
+
+    private static Set<String> getPackedRegionNames() {
+        if (packedRegionNames == null) {
+            packedRegionNames = new HashSet<>();
+            if (hasAtlas()) {
+                FileHandle atlasFile = Gdx.files.internal(ATLAS_PATH);
+                TextureAtlas.TextureAtlasData data = new TextureAtlas.TextureAtlasData(atlasFile, atlasFile.parent(),
+                        false);
+                for (TextureAtlas.TextureAtlasData.Region region : data.getRegions()) {
+                    packedRegionNames.add(region.name);
+                }
+            }
+        }
+        return packedRegionNames;
+    }
+
+    private static String toRegionName(String path) {
+        return path.endsWith(IMAGE_EXTENSION) ? path.substring(0, path.length() - IMAGE_EXTENSION.length()) : path;
+    }
+
+    private static List<String> listAssets(String directory, String extension) {
+        List<String> paths = new ArrayList<>();
+        String prefix = directory + "/";
+        FileHandle assetList = Gdx.files.internal(ASSET_LIST_PATH);
+
+        if (assetList.exists()) {
+            for (String line : assetList.readString().split("\\r?\\n")) {
+                String path = line.trim().replace('\\', '/');
+                if (path.startsWith(prefix) && path.endsWith(extension)) {
+                    paths.add(path);
+                }
+            }
+        } else {
+            for (FileHandle file : Gdx.files.internal(directory).list(extension)) {
+                paths.add(prefix + file.name());
+            }
+        }
+        return paths;
+    }
+
+    private static TextureRegion[] createBlankFrames(String path, int frameWidth) {
+        int count = Math.max(1, getTextureSize(path).x / Math.max(1, frameWidth));
+        TextureRegion[] frames = new TextureRegion[count];
+        for (int i = 0; i < count; i++) {
+            frames[i] = new TextureRegion();
+        }
+        return frames;
+    }
+
+    private static GridPoint2 readPngSize(String path) {
+        DataInputStream input = null;
+        try {
+            input = new DataInputStream(Gdx.files.internal(path).read());
+            input.skipBytes(PNG_HEADER_SIZE);
+            int width = input.readInt();
+            int height = input.readInt();
+            return new GridPoint2(width, height);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Failed to read image size: " + path, e);
+        } finally {
+            StreamUtils.closeQuietly(input);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package project.roguelike.core;
+
+public class FixedTimestep {
+    private boolean enabled = true;
+    private float step;
+    private int maxStepsPerFrame;
+
+    private float accumulator = 0f;
+    private float alpha = 1f;
+    private float lastFrameDelta = 0f;
+    private long totalSteps = 0;
+    private long droppedSteps = 0;
+
+    public FixedTimestep(int tickRate, int maxStepsPerFrame) {
+        setTickRate(tickRate);
+        setMaxStepsPerFrame(maxStepsPerFrame);
+    }
+
+    public int advance(float frameDelta) {
+        lastFrameDelta = Math.max(0f, frameDelta);
+
+        if (!enabled) {
+            accumulator = 0f;
+            alpha = 1f;
+            totalSteps++;
+            return 1;
+        }
+
+        accumulator += lastFrameDelta;
+
+        int steps = 0;
+        while (accumulator >= step && steps < maxStepsPerFrame) {
+            accumulator -= step;
+            steps++;
+        }
+
+        if (accumulator >= step) {
+            int dropped = (int) (accumulator / step);
+            droppedSteps += dropped;
+            accumulator -= dropped * step;
+        }
+
+        alpha = accumulator / step;
+        totalSteps += steps;
+        return steps;
+    }
+
+    public float getStepDelta() {
+        return enabled ? step : lastFrameDelta;
+    }
+
+    public float getAlpha() {
+        return alpha;
+    }
+
+    public void reset() {
+        accumulator = 0f;
+        alpha = 1f;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        reset();
+    }
+
+    public int getTickRate() {
+        return Math.round(1f / step);
+    }
+
+    public void setTickRate(int tickRate) {
+        if (tickRate <= 0) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + tickRate);
+        }
+        this.step = 1f / tickRate;
+    }
+
+    public int getMaxStepsPerFrame() {
+        return maxStepsPerFrame;
+    }
+
+    public void setMaxStepsPerFrame(int maxStepsPerFrame) {
+        this.maxStepsPerFrame = Math.max(1, maxStepsPerFrame);
+    }
+
+    public long getTotalSteps() {
+        return totalSteps;
+    }
+
+    public long getDroppedSteps() {
+        return droppedSteps;
+    }
+}
@@ -0,0 +1,142 @@
+package project.roguelike.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import project.roguelike.rooms.Room;
+
+public class FreeCellIndex {
+    private static final int NOT_FREE = -1;
+
+    private final int width;
+    private final int height;
+    private final int[] cells;
+    private final int[] slots;
+    private int size;
+
+    public FreeCellIndex(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Grid size must be positive: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.cells = new int[width * height];
+        this.slots = new int[width * height];
+    }
+
+    public static FreeCellIndex forRoom(Room room, int doorSafetyRadius) {
+        Room.CellType[][] grid = room.getGrid();
+        FreeCellIndex index = new FreeCellIndex(grid.length, grid[0].length);
+        index.rebuild(grid, room.getDoors(), doorSafetyRadius);
+        return index;
+    }
+
+    public void rebuild(Room.CellType[][] grid, List<Room.DoorDirection> doors, int doorSafetyRadius) {
+        Arrays.fill(slots, NOT_FREE);
+        size = 0;
+
+        int[] doorX = new int[doors.size()];
+        int[] doorY = new int[doors.size()];
+        for (int i = 0; i < doors.size(); i++) {
+            doorX[i] = getDoorX(doors.get(i));
+            doorY[i] = getDoorY(doors.get(i));
+        }
+
+        for (int x = 1; x < width - 1; x++) {
+            for (int y = 1; y < height - 1; y++) {
+                if (grid[x][y] == Room.CellType.EMPTY && !isNearDoor(doorX, doorY, x, y, doorSafetyRadius)) {
+                    add(toCell(x, y));
+                }
+            }
+        }
+    }
+
+    public int take(Random random) {
+        if (size == 0) {
+            return NOT_FREE;
+        }
+        int cell = cells[random.nextInt(size)];
+        remove(cell);
+        return cell;
+    }
+
+    public boolean remove(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+        return remove(toCell(x, y));
+    }
+
+    public boolean contains(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height && slots[toCell(x, y)] != NOT_FREE;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int cellX(int cell) {
+        return cell / height;
+    }
+
+    public int cellY(int cell) {
+        return cell % height;
+    }
+
+    private int toCell(int x, int y) {
+        return x * height + y;
+    }
+
+    private void add(int cell) {
+        slots[cell] = size;
+        cells[size++] = cell;
+    }
+
+    private boolean remove(int cell) {
+        int slot = slots[cell];
+        if (slot == NOT_FREE) {
+            return false;
+        }
+
+        int last = cells[--size];
+        cells[slot] = last;
+        slots[last] = slot;
+        slots[cell] = NOT_FREE;
+        return true;
+    }
+
+    private boolean isNearDoor(int[] doorX, int[] doorY, int x, int y, int radius) {
+        for (int i = 0; i < doorX.length; i++) {
+            if (Math.max(Math.abs(doorX[i] - x), Math.abs(doorY[i] - y)) <= radius) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int getDoorX(Room.DoorDirection door) {
+        switch (door) {
+            case LEFT:
+                return 0;
+            case RIGHT:
+                return width - 1;
+            default:
+                return width / 2;
+        }
+    }
+
+    private int getDoorY(Room.DoorDirection door) {
+        switch (door) {
+            case UP:
+                return height - 1;
+            case DOWN:
+                return 0;
+            default:
+                return height / 2;
+        }
+    }
+}
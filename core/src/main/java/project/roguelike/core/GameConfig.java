@@ -17,6 +17,20 @@ public class GameConfig {
     public static final float WORLD_HEIGHT = ROOM_TOTAL_HEIGHT + TOP_MARGIN;
     public static final float WORLD_WIDTH = WORLD_HEIGHT * 16f / 9f;
 
+    public static final int SIMULATION_TICK_RATE = 60;
+    public static final int MAX_SIMULATION_STEPS_PER_FRAME = 5;
+
+    public static final int FLOOR_ROWS = 5;
+    public static final int FLOOR_COLS = 5;
+    public static final int FLOOR_ROOM_COUNT = 10;
+    public static final int FLOOR_PREPARE_FRAME_BUDGET_MS = 2;
+    public static final int ROOM_PREFETCH_FRAME_BUDGET_MS = 2;
+
+    public static final int AI_FAR_THINK_INTERVAL = 4;
+    public static final int AI_FAR_THINK_BUDGET = 64;
+    public static final float AI_NEAR_RANGE = TILE_SIZE * 4f;
+    public static final int ENEMY_CROWD_THRESHOLD = 64;
+
     public static final float WEAPON_WIDTH_RATIO = 0.4f;
     public static final float OFFSET_X_RATIO = 0.33f;
     public static final float OFFSET_Y_RATIO = -0.33f;
@@ -48,7 +62,7 @@ public class GameConfig {
     public static final float UI_OVERLAY_ALPHA = 0.7f;
     public static final float UI_FADE_SPEED = 2f;
 
-    public static final float UI_LOADING_SPEED = 1.5f;
+    public static final int ASSET_LOAD_FRAME_BUDGET_MS = 8;
     public static final float UI_PROGRESS_BAR_WIDTH = 400f;
     public static final float UI_PROGRESS_BAR_HEIGHT = 30f;
 
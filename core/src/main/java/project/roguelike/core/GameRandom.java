@@ -0,0 +1,60 @@
+package project.roguelike.core;
+
+import com.badlogic.gdx.math.RandomXS128;
+
+public class GameRandom {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    public enum Stream {
+        LAYOUT,
+        SPAWNS,
+        LOOT,
+        AUDIO
+    }
+
+    private static final Stream[] STREAMS = Stream.values();
+    private static final RandomXS128[] generators = new RandomXS128[STREAMS.length];
+    private static long runSeed;
+
+    static {
+        for (int i = 0; i < generators.length; i++) {
+            generators[i] = new RandomXS128();
+        }
+        seed(newRunSeed());
+    }
+
+    public static void seed(long seed) {
+        runSeed = seed;
+        for (Stream stream : STREAMS) {
+            generators[stream.ordinal()].setSeed(deriveSeed(seed, stream.ordinal()));
+        }
+    }
+
+    public static long getRunSeed() {
+        return runSeed;
+    }
+
+    public static RandomXS128 get(Stream stream) {
+        return generators[stream.ordinal()];
+    }
+
+    public static RandomXS128 reseed(Stream stream, long key) {
+        RandomXS128 generator = generators[stream.ordinal()];
+        generator.setSeed(deriveSeed(deriveSeed(runSeed, stream.ordinal()), key));
+        return generator;
+    }
+
+    public static long deriveSeed(long seed, long key) {
+        return mix(seed + GOLDEN_GAMMA * (key + 1));
+    }
+
+    public static long newRunSeed() {
+        return mix(System.nanoTime() ^ System.currentTimeMillis() * GOLDEN_GAMMA);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
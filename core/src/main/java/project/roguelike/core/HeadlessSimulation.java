@@ -0,0 +1,155 @@
+package project.roguelike.core;
+
+import com.badlogic.gdx.math.Vector2;
+import project.roguelike.entities.Player;
+import project.roguelike.levels.FloorPreloader;
+import project.roguelike.levels.PreparedFloor;
+import project.roguelike.levels.RoomData;
+
+public class HeadlessSimulation {
+    private static final int DEFAULT_MAX_TICKS = GameConfig.SIMULATION_TICK_RATE * 60 * 10;
+
+    private final float stepDelta;
+    private final int maxTicks;
+    private final Vector2 aimTarget = new Vector2();
+
+    public interface Controller {
+        InputState control(WorldManager world, Vector2 aimTarget);
+    }
+
+    public static class FloorResult {
+        public final boolean completed;
+        public final boolean playerDied;
+        public final int ticks;
+        public final GameStatistics statistics;
+
+        public FloorResult(boolean completed, boolean playerDied, int ticks, GameStatistics statistics) {
+            this.completed = completed;
+            this.playerDied = playerDied;
+            this.ticks = ticks;
+            this.statistics = statistics;
+        }
+    }
+
+    public static class SessionResult {
+        public final long runSeed;
+        public final int floors;
+        public final int completedFloors;
+        public final boolean playerDied;
+        public final long ticks;
+        public final long elapsedNanos;
+
+        public SessionResult(long runSeed, int floors, int completedFloors, boolean playerDied, long ticks,
+                long elapsedNanos) {
+            this.runSeed = runSeed;
+            this.floors = floors;
+            this.completedFloors = completedFloors;
+            this.playerDied = playerDied;
+            this.ticks = ticks;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public double getTicksPerSecond() {
+            return elapsedNanos > 0 ? ticks * 1_000_000_000.0 / elapsedNanos : 0.0;
+        }
+    }
+
+    public HeadlessSimulation() {
+        this(GameConfig.SIMULATION_TICK_RATE, DEFAULT_MAX_TICKS);
+    }
+
+    public HeadlessSimulation(int tickRate, int maxTicks) {
+        AssetRegistry.setHeadless(true);
+        this.stepDelta = 1f / tickRate;
+        this.maxTicks = maxTicks;
+    }
+
+    public FloorResult runFloor(RoomData[][] layout, Controller controller) {
+        WorldManager world = new WorldManager(layout, null);
+        world.createHeadless();
+
+        int ticks = 0;
+        while (ticks < maxTicks && !isFloorFinished(world)) {
+            InputState input = controller.control(world, aimTarget);
+            world.step(stepDelta, input, aimTarget);
+            ticks++;
+        }
+
+        FloorResult result = new FloorResult(
+                world.getPlayer().isLevelTransitionRequested(),
+                world.getPlayer().isDead(),
+                ticks,
+                world.getStatistics());
+        world.dispose();
+        return result;
+    }
+
+    public SessionResult runSession(long runSeed, int maxFloors, Controller controller, InputRecorder recorder) {
+        return runSession(runSeed, maxFloors, controller, recorder, null);
+    }
+
+    public SessionResult runReplay(InputReplay replay) {
+        return runSession(replay.getRunSeed(), Integer.MAX_VALUE, null, null, replay);
+    }
+
+    private SessionResult runSession(long runSeed, int maxFloors, Controller controller, InputRecorder recorder,
+            InputReplay replay) {
+        GameRandom.seed(runSeed);
+        FloorPreloader preloader = new FloorPreloader();
+        Player player = null;
+        int floors = 0;
+        int completedFloors = 0;
+        boolean playerDied = false;
+        long ticks = 0;
+        long start = System.nanoTime();
+
+        try {
+            preloader.prepare(GameRandom.get(GameRandom.Stream.LAYOUT).nextLong());
+            while (floors < maxFloors && (replay == null || replay.hasNext())) {
+                PreparedFloor floor = preloader.take();
+                WorldManager world = new WorldManager(floor, null, player);
+                world.createHeadless();
+                world.setInputRecorder(recorder);
+                preloader.prepare(GameRandom.get(GameRandom.Stream.LAYOUT).nextLong());
+                floors++;
+
+                int floorTicks = 0;
+                while (floorTicks < maxTicks && !isFloorFinished(world)) {
+                    InputState input;
+                    if (replay != null) {
+                        if (!replay.hasNext()) {
+                            break;
+                        }
+                        input = replay.next(aimTarget);
+                        world.queueScroll(replay.getScroll());
+                    } else {
+                        input = controller.control(world, aimTarget);
+                    }
+                    world.step(stepDelta, input, aimTarget);
+                    floorTicks++;
+                }
+                ticks += floorTicks;
+
+                boolean completed = !world.isGameOver() && world.getPlayer().isLevelTransitionRequested();
+                playerDied = world.getPlayer().isDead();
+                if (completed) {
+                    completedFloors++;
+                    player = world.detachPlayer();
+                    player.resetLevelTransitionRequest();
+                }
+                world.dispose();
+                if (!completed) {
+                    break;
+                }
+            }
+        } finally {
+            preloader.dispose();
+        }
+
+        return new SessionResult(runSeed, floors, completedFloors, playerDied, ticks, System.nanoTime() - start);
+    }
+
+    private boolean isFloorFinished(WorldManager world) {
+        return world.isGameOver() || world.getPlayer().isLevelTransitionRequested();
+    }
+}
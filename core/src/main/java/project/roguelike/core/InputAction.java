@@ -12,5 +12,8 @@ public enum InputAction {
     SELECT_ACTIVE_ITEM_PREV,
     SELECT_ACTIVE_ITEM_NEXT,
     WEAPON_SCROLL,
-    PAUSE
+    PAUSE,
+    TOGGLE_PROFILER,
+    RECORD_PROFILER,
+    SAVE_REPLAY
 }
\ No newline at end of file
@@ -6,8 +6,19 @@ import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.math.Vector2;
 
 public class InputManager extends InputAdapter {
+    private static final int EVENT_CAPACITY = 64;
+    private static final int BUTTON_EVENT = 1 << 16;
+
     private final KeyBindings keyBindings;
     private final Vector2 moveDirection = new Vector2();
+    private final InputState[] snapshots = { new InputState(), new InputState() };
+    private int front;
+    private long sequence;
+
+    private final int[] eventCodes = new int[EVENT_CAPACITY];
+    private final long[] eventTimes = new long[EVENT_CAPACITY];
+    private int eventHead;
+    private int eventCount;
 
     private boolean shootPressed = false;
     private boolean shootJustPressed = false;
@@ -38,11 +49,19 @@ public class InputManager extends InputAdapter {
 
     public void update() {
         updateMovement();
-        updateActions();
+        shootPressed = Gdx.input.isButtonPressed(Input.Buttons.LEFT);
     }
 
-    public InputState getState() {
-        return new InputState(
+    public InputState captureTick() {
+        return captureTick(Long.MAX_VALUE);
+    }
+
+    public InputState captureTick(long cutoffNanos) {
+        while (eventCount > 0 && eventTimes[eventHead] <= cutoffNanos) {
+            applyEvent(pollEvent());
+        }
+
+        InputState snapshot = snapshots[1 - front].set(
                 moveDirection,
                 shootPressed,
                 shootJustPressed,
@@ -51,6 +70,47 @@ public class InputManager extends InputAdapter {
                 useActiveItemPressed,
                 selectActiveItemPrevPressed,
                 selectActiveItemNextPressed);
+        snapshot.setSequence(++sequence);
+        front = 1 - front;
+        consumeJustPressed();
+        return snapshot;
+    }
+
+    public void clearEvents() {
+        eventHead = 0;
+        eventCount = 0;
+    }
+
+    public void applyState(InputState state) {
+        moveDirection.set(state.getMoveDirection());
+        shootPressed = state.isShootPressed();
+        shootJustPressed = state.isShootJustPressed();
+        reloadPressed = state.isReloadPressed();
+        usePressed = state.isUsePressed();
+        useActiveItemPressed = state.isUseActiveItemPressed();
+        selectActiveItemPrevPressed = state.isSelectActiveItemPrevPressed();
+        selectActiveItemNextPressed = state.isSelectActiveItemNextPressed();
+    }
+
+    private void consumeJustPressed() {
+        shootJustPressed = false;
+        reloadPressed = false;
+        usePressed = false;
+        useActiveItemPressed = false;
+        selectActiveItemPrevPressed = false;
+        selectActiveItemNextPressed = false;
+    }
+
+    public InputState getState() {
+        return snapshots[front];
+    }
+
+    public InputState getPreviousState() {
+        return snapshots[1 - front];
+    }
+
+    public long getSequence() {
+        return sequence;
     }
 
     public boolean isActionJustPressed(InputAction action) {
@@ -62,6 +122,18 @@ public class InputManager extends InputAdapter {
         return keyBindings;
     }
 
+    @Override
+    public boolean keyDown(int keycode) {
+        queueEvent(keycode);
+        return false;
+    }
+
+    @Override
+    public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        queueEvent(BUTTON_EVENT | button);
+        return false;
+    }
+
     @Override
     public boolean scrolled(float amountX, float amountY) {
         if (scrollCallback != null) {
@@ -87,23 +159,45 @@ public class InputManager extends InputAdapter {
         }
     }
 
-    private void updateActions() {
-        shootPressed = Gdx.input.isButtonPressed(Input.Buttons.LEFT);
-        shootJustPressed = Gdx.input.isButtonJustPressed(Input.Buttons.LEFT);
-        reloadPressed = isKeyJustPressed(InputAction.RELOAD);
-        usePressed = isKeyJustPressed(InputAction.USE);
-        useActiveItemPressed = isKeyJustPressed(InputAction.USE_ACTIVE_ITEM);
-        selectActiveItemPrevPressed = isKeyJustPressed(InputAction.SELECT_ACTIVE_ITEM_PREV);
-        selectActiveItemNextPressed = isKeyJustPressed(InputAction.SELECT_ACTIVE_ITEM_NEXT);
+    private void queueEvent(int code) {
+        if (eventCount == EVENT_CAPACITY) {
+            applyEvent(pollEvent());
+        }
+        int index = (eventHead + eventCount) % EVENT_CAPACITY;
+        eventCodes[index] = code;
+        eventTimes[index] = Gdx.input.getCurrentEventTime();
+        eventCount++;
     }
 
-    private boolean isKeyPressed(InputAction action) {
-        int key = keyBindings.getKey(action);
-        return key != -1 && Gdx.input.isKeyPressed(key);
+    private int pollEvent() {
+        int code = eventCodes[eventHead];
+        eventHead = (eventHead + 1) % EVENT_CAPACITY;
+        eventCount--;
+        return code;
     }
 
-    private boolean isKeyJustPressed(InputAction action) {
+    private void applyEvent(int code) {
+        if ((code & BUTTON_EVENT) != 0) {
+            if ((code & ~BUTTON_EVENT) == Input.Buttons.LEFT) {
+                shootJustPressed = true;
+            }
+            return;
+        }
+
+        if (code == keyBindings.getKey(InputAction.RELOAD))
+            reloadPressed = true;
+        if (code == keyBindings.getKey(InputAction.USE))
+            usePressed = true;
+        if (code == keyBindings.getKey(InputAction.USE_ACTIVE_ITEM))
+            useActiveItemPressed = true;
+        if (code == keyBindings.getKey(InputAction.SELECT_ACTIVE_ITEM_PREV))
+            selectActiveItemPrevPressed = true;
+        if (code == keyBindings.getKey(InputAction.SELECT_ACTIVE_ITEM_NEXT))
+            selectActiveItemNextPressed = true;
+    }
+
+    private boolean isKeyPressed(InputAction action) {
         int key = keyBindings.getKey(action);
-        return key != -1 && Gdx.input.isKeyJustPressed(key);
+        return key != -1 && Gdx.input.isKeyPressed(key);
     }
 }
\ No newline at end of file
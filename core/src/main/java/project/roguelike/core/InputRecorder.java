@@ -0,0 +1,127 @@
+package project.roguelike.core;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Vector2;
+import java.nio.ByteBuffer;
+
+/** One flag byte per tick; movement, aim and scroll follow only on the ticks where they change. */
+public class InputRecorder {
+    static final int MAGIC = 0x52485250;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 4 + 4 + 8 + 4;
+
+    static final int SHOOT = 1;
+    static final int SHOOT_JUST_PRESSED = 1 << 1;
+    static final int RELOAD = 1 << 2;
+    static final int USE = 1 << 3;
+    static final int USE_ACTIVE_ITEM = 1 << 4;
+    static final int SELECT_PREV = 1 << 5;
+    static final int SELECT_NEXT = 1 << 6;
+    static final int EXTENDED = 1 << 7;
+
+    static final int MOVE_CHANGED = 1;
+    static final int AIM_CHANGED = 1 << 1;
+    static final int SCROLL = 1 << 2;
+
+    private static final int INITIAL_CAPACITY = 16 * 1024;
+
+    private final long runSeed;
+    private final Vector2 lastMove = new Vector2();
+    private final Vector2 lastAim = new Vector2();
+    private byte[] data = new byte[INITIAL_CAPACITY];
+    private int size;
+    private int tickCount;
+
+    public InputRecorder(long runSeed) {
+        this.runSeed = runSeed;
+    }
+
+    public void record(InputState state, Vector2 aim, int scroll) {
+        int flags = 0;
+        if (state.isShootPressed())
+            flags |= SHOOT;
+        if (state.isShootJustPressed())
+            flags |= SHOOT_JUST_PRESSED;
+        if (state.isReloadPressed())
+            flags |= RELOAD;
+        if (state.isUsePressed())
+            flags |= USE;
+        if (state.isUseActiveItemPressed())
+            flags |= USE_ACTIVE_ITEM;
+        if (state.isSelectActiveItemPrevPressed())
+            flags |= SELECT_PREV;
+        if (state.isSelectActiveItemNextPressed())
+            flags |= SELECT_NEXT;
+
+        Vector2 move = state.getMoveDirection();
+        int extended = 0;
+        if (!move.equals(lastMove))
+            extended |= MOVE_CHANGED;
+        if (!aim.equals(lastAim))
+            extended |= AIM_CHANGED;
+        if (scroll != 0)
+            extended |= SCROLL;
+
+        ensureCapacity(1 + 1 + 8 + 8 + 1);
+        if (extended == 0) {
+            data[size++] = (byte) flags;
+        } else {
+            data[size++] = (byte) (flags | EXTENDED);
+            data[size++] = (byte) extended;
+            if ((extended & MOVE_CHANGED) != 0) {
+                writeFloat(move.x);
+                writeFloat(move.y);
+                lastMove.set(move);
+            }
+            if ((extended & AIM_CHANGED) != 0) {
+                writeFloat(aim.x);
+                writeFloat(aim.y);
+                lastAim.set(aim);
+            }
+            if ((extended & SCROLL) != 0) {
+                data[size++] = (byte) Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE, scroll));
+            }
+        }
+        tickCount++;
+    }
+
+    public long getRunSeed() {
+        return runSeed;
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    public int getSizeBytes() {
+        return HEADER_SIZE + size;
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + size);
+        buffer.putInt(MAGIC).putInt(VERSION).putLong(runSeed).putInt(tickCount);
+        buffer.put(data, 0, size);
+        return buffer.array();
+    }
+
+    public void save(FileHandle file) {
+        file.writeBytes(toBytes(), false);
+    }
+
+    private void writeFloat(float value) {
+        int bits = Float.floatToRawIntBits(value);
+        data[size++] = (byte) (bits >>> 24);
+        data[size++] = (byte) (bits >>> 16);
+        data[size++] = (byte) (bits >>> 8);
+        data[size++] = (byte) bits;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra <= data.length) {
+            return;
+        }
+        byte[] grown = new byte[Math.max(data.length * 2, size + extra)];
+        System.arraycopy(data, 0, grown, 0, size);
+        data = grown;
+    }
+}
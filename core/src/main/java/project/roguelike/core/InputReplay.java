@@ -0,0 +1,97 @@
+package project.roguelike.core;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+public class InputReplay {
+    private final long runSeed;
+    private final int tickCount;
+    private final ByteBuffer data;
+    private final Vector2 move = new Vector2();
+    private final Vector2 aim = new Vector2();
+    private final InputState state = new InputState();
+    private int tick;
+    private int scroll;
+
+    public InputReplay(byte[] bytes) {
+        if (bytes.length < InputRecorder.HEADER_SIZE) {
+            throw new GdxRuntimeException("Input replay is truncated");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.getInt() != InputRecorder.MAGIC) {
+            throw new GdxRuntimeException("Not an input replay");
+        }
+        int version = buffer.getInt();
+        if (version != InputRecorder.VERSION) {
+            throw new GdxRuntimeException("Unsupported input replay version: " + version);
+        }
+        this.runSeed = buffer.getLong();
+        this.tickCount = buffer.getInt();
+        this.data = buffer.slice();
+    }
+
+    public static InputReplay load(FileHandle file) {
+        return new InputReplay(file.readBytes());
+    }
+
+    public boolean hasNext() {
+        return tick < tickCount;
+    }
+
+    public InputState next(Vector2 aimOut) {
+        if (!hasNext()) {
+            throw new IllegalStateException("Input replay has no ticks left");
+        }
+
+        try {
+            int flags = data.get() & 0xFF;
+            scroll = 0;
+            if ((flags & InputRecorder.EXTENDED) != 0) {
+                int extended = data.get() & 0xFF;
+                if ((extended & InputRecorder.MOVE_CHANGED) != 0) {
+                    move.set(data.getFloat(), data.getFloat());
+                }
+                if ((extended & InputRecorder.AIM_CHANGED) != 0) {
+                    aim.set(data.getFloat(), data.getFloat());
+                }
+                if ((extended & InputRecorder.SCROLL) != 0) {
+                    scroll = data.get();
+                }
+            }
+
+            state.set(move,
+                    (flags & InputRecorder.SHOOT) != 0,
+                    (flags & InputRecorder.SHOOT_JUST_PRESSED) != 0,
+                    (flags & InputRecorder.RELOAD) != 0,
+                    (flags & InputRecorder.USE) != 0,
+                    (flags & InputRecorder.USE_ACTIVE_ITEM) != 0,
+                    (flags & InputRecorder.SELECT_PREV) != 0,
+                    (flags & InputRecorder.SELECT_NEXT) != 0);
+        } catch (BufferUnderflowException e) {
+            throw new GdxRuntimeException("Input replay ended early at tick " + tick + " of " + tickCount, e);
+        }
+
+        aimOut.set(aim);
+        tick++;
+        return state;
+    }
+
+    public int getScroll() {
+        return scroll;
+    }
+
+    public long getRunSeed() {
+        return runSeed;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+}
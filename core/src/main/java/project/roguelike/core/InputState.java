@@ -3,14 +3,18 @@ package project.roguelike.core;
 import com.badlogic.gdx.math.Vector2;
 
 public class InputState {
-    private final Vector2 moveDirection;
-    private final boolean shootPressed;
-    private final boolean shootJustPressed;
-    private final boolean reloadPressed;
-    private final boolean usePressed;
-    private final boolean useActiveItemPressed;
-    private final boolean selectActiveItemPrevPressed;
-    private final boolean selectActiveItemNextPressed;
+    private final Vector2 moveDirection = new Vector2();
+    private boolean shootPressed;
+    private boolean shootJustPressed;
+    private boolean reloadPressed;
+    private boolean usePressed;
+    private boolean useActiveItemPressed;
+    private boolean selectActiveItemPrevPressed;
+    private boolean selectActiveItemNextPressed;
+    private long sequence;
+
+    public InputState() {
+    }
 
     public InputState(Vector2 moveDirection,
             boolean shootPressed,
@@ -20,7 +24,19 @@ public class InputState {
             boolean useActiveItemPressed,
             boolean selectActiveItemPrevPressed,
             boolean selectActiveItemNextPressed) {
-        this.moveDirection = new Vector2(moveDirection);
+        set(moveDirection, shootPressed, shootJustPressed, reloadPressed, usePressed, useActiveItemPressed,
+                selectActiveItemPrevPressed, selectActiveItemNextPressed);
+    }
+
+    public InputState set(Vector2 moveDirection,
+            boolean shootPressed,
+            boolean shootJustPressed,
+            boolean reloadPressed,
+            boolean usePressed,
+            boolean useActiveItemPressed,
+            boolean selectActiveItemPrevPressed,
+            boolean selectActiveItemNextPressed) {
+        this.moveDirection.set(moveDirection);
         this.shootPressed = shootPressed;
         this.shootJustPressed = shootJustPressed;
         this.reloadPressed = reloadPressed;
@@ -28,10 +44,11 @@ public class InputState {
         this.useActiveItemPressed = useActiveItemPressed;
         this.selectActiveItemPrevPressed = selectActiveItemPrevPressed;
         this.selectActiveItemNextPressed = selectActiveItemNextPressed;
+        return this;
     }
 
     public Vector2 getMoveDirection() {
-        return new Vector2(moveDirection);
+        return moveDirection;
     }
 
     public boolean isShootPressed() {
@@ -61,4 +78,12 @@ public class InputState {
     public boolean isSelectActiveItemNextPressed() {
         return selectActiveItemNextPressed;
     }
-}
\ No newline at end of file
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+}
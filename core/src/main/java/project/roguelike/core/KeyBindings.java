@@ -43,6 +43,9 @@ public class KeyBindings {
         keyMap.put(InputAction.SELECT_ACTIVE_ITEM_PREV, Input.Keys.NUM_1);
         keyMap.put(InputAction.SELECT_ACTIVE_ITEM_NEXT, Input.Keys.NUM_2);
         keyMap.put(InputAction.PAUSE, Input.Keys.ESCAPE);
+        keyMap.put(InputAction.TOGGLE_PROFILER, Input.Keys.F3);
+        keyMap.put(InputAction.RECORD_PROFILER, Input.Keys.F4);
+        keyMap.put(InputAction.SAVE_REPLAY, Input.Keys.F5);
     }
 
     public int getKey(InputAction action) {
@@ -105,6 +108,12 @@ public class KeyBindings {
                 return "Next Active Item";
             case PAUSE:
                 return "Pause Game";
+            case TOGGLE_PROFILER:
+                return "Toggle Profiler";
+            case RECORD_PROFILER:
+                return "Record Profile";
+            case SAVE_REPLAY:
+                return "Save Replay";
             default:
                 return action.name();
         }
@@ -0,0 +1,428 @@
+package project.roguelike.core;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.math.Matrix4;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+public class Profiler {
+    private static final String TAG = "Profiler";
+    private static final int HISTORY_SIZE = 240;
+    private static final float REFRESH_INTERVAL = 0.25f;
+    private static final int RECORD_FLUSH_FRAMES = 60;
+    private static final String RECORD_DIRECTORY = "profiler/";
+    private static final float NANOS_PER_MILLI = 1_000_000f;
+
+    private static final float PANEL_X = 8f;
+    private static final float PANEL_WIDTH = 330f;
+    private static final float LINE_HEIGHT = 16f;
+    private static final Color PANEL_COLOR = new Color(0f, 0f, 0f, 0.6f);
+
+    public enum Section {
+        INPUT("input"),
+        PLAYER("player"),
+        ROOM_UPDATE("room update"),
+        DOORS("doors"),
+        CAMERA("camera"),
+        ROOM_RENDER("room render"),
+        PLAYER_RENDER("player render"),
+        UI_RENDER("ui render"),
+        SCENE_TRANSITION("scene switch");
+
+        final String label;
+
+        Section(String label) {
+            this.label = label;
+        }
+    }
+
+    private static final Section[] SECTIONS = Section.values();
+    private static final long[] sectionStart = new long[SECTIONS.length];
+    private static final long[] sectionFrameNanos = new long[SECTIONS.length];
+    private static final float[][] sectionHistory = new float[SECTIONS.length][HISTORY_SIZE];
+
+    private static final float[] frameHistory = new float[HISTORY_SIZE];
+    private static final float[] sortedFrames = new float[HISTORY_SIZE];
+    private static final float[] sectionAverages = new float[SECTIONS.length];
+    private static int historyIndex = 0;
+    private static int historyCount = 0;
+
+    private static boolean enabled = false;
+    private static boolean recording = false;
+    private static GLProfiler glProfiler;
+    private static int drawCalls;
+    private static int textureBindings;
+    private static int shaderSwitches;
+
+    private static final int[] aiFrameCounts = new int[4];
+    private static final int[] aiCounts = new int[4];
+
+    private static long lastUsedHeap = -1;
+    private static long allocatedBytes;
+    private static float allocationWindow;
+    private static float allocationRate;
+
+    private static float refreshTimer = REFRESH_INTERVAL;
+    private static float p50;
+    private static float p95;
+    private static float p99;
+
+    private static BitmapFont font;
+    private static Texture panelTexture;
+    private static final Matrix4 screenProjection = new Matrix4();
+    private static final StringBuilder line = new StringBuilder();
+
+    private static Writer recordWriter;
+    private static FileHandle recordFile;
+    private static int recordedFrames;
+
+    public static boolean isActive() {
+        return enabled || recording;
+    }
+
+    public static void begin(Section section) {
+        if (enabled || recording) {
+            sectionStart[section.ordinal()] = System.nanoTime();
+        }
+    }
+
+    public static void end(Section section) {
+        if (enabled || recording) {
+            int index = section.ordinal();
+            sectionFrameNanos[index] += System.nanoTime() - sectionStart[index];
+        }
+    }
+
+    public static void countAi(int nearThinks, int farThinks, int skipped, int deferred) {
+        if (enabled || recording) {
+            aiFrameCounts[0] += nearThinks;
+            aiFrameCounts[1] += farThinks;
+            aiFrameCounts[2] += skipped;
+            aiFrameCounts[3] += deferred;
+        }
+    }
+
+    public static void toggle() {
+        setEnabled(!enabled);
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+        updateGlProfiler();
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    public static void toggleRecording() {
+        if (recording) {
+            stopRecording();
+        } else {
+            startRecording();
+        }
+    }
+
+    public static void handleInput(KeyBindings bindings) {
+        if (isJustPressed(bindings, InputAction.TOGGLE_PROFILER)) {
+            toggle();
+        }
+        if (isJustPressed(bindings, InputAction.RECORD_PROFILER)) {
+            toggleRecording();
+        }
+    }
+
+    public static void endFrame(float delta) {
+        if (!enabled && !recording) {
+            Arrays.fill(sectionFrameNanos, 0L);
+            Arrays.fill(aiFrameCounts, 0);
+            return;
+        }
+        System.arraycopy(aiFrameCounts, 0, aiCounts, 0, aiCounts.length);
+        Arrays.fill(aiFrameCounts, 0);
+
+        readGlCounters();
+        updateAllocationRate(delta);
+
+        frameHistory[historyIndex] = delta * 1000f;
+        for (int i = 0; i < SECTIONS.length; i++) {
+            sectionHistory[i][historyIndex] = sectionFrameNanos[i] / NANOS_PER_MILLI;
+        }
+
+        if (recording) {
+            recordFrame(delta);
+        }
+
+        Arrays.fill(sectionFrameNanos, 0L);
+        historyIndex = (historyIndex + 1) % HISTORY_SIZE;
+        historyCount = Math.min(historyCount + 1, HISTORY_SIZE);
+
+        refreshTimer += delta;
+        if (refreshTimer >= REFRESH_INTERVAL) {
+            refreshTimer = 0f;
+            refreshSummary();
+        }
+    }
+
+    public static void render(SpriteBatch batch) {
+        if (!enabled) {
+            return;
+        }
+        ensureResources();
+
+        int width = Gdx.graphics.getWidth();
+        int height = Gdx.graphics.getHeight();
+        screenProjection.setToOrtho2D(0f, 0f, width, height);
+        batch.setProjectionMatrix(screenProjection);
+
+        int lines = SECTIONS.length + 6;
+        float top = height - PANEL_X;
+        float panelHeight = lines * LINE_HEIGHT + PANEL_X;
+
+        batch.begin();
+        batch.setColor(PANEL_COLOR);
+        batch.draw(panelTexture, PANEL_X, top - panelHeight, PANEL_WIDTH, panelHeight);
+        batch.setColor(Color.WHITE);
+
+        float x = PANEL_X * 2f;
+        float y = top - PANEL_X / 2f;
+
+        line.setLength(0);
+        line.append("frame ms p50 ").append(format(p50)).append("  p95 ").append(format(p95))
+                .append("  p99 ").append(format(p99));
+        y = drawLine(batch, x, y);
+
+        line.setLength(0);
+        line.append("fps ").append(Gdx.graphics.getFramesPerSecond())
+                .append("  draw calls ").append(drawCalls)
+                .append("  binds ").append(textureBindings)
+                .append("  shaders ").append(shaderSwitches);
+        y = drawLine(batch, x, y);
+
+        line.setLength(0);
+        line.append("alloc ").append(format(allocationRate / (1024f * 1024f))).append(" MB/s  heap ")
+                .append(lastUsedHeap / (1024 * 1024)).append(" MB");
+        y = drawLine(batch, x, y);
+
+        line.setLength(0);
+        line.append("ai near ").append(aiCounts[0]).append("  far ").append(aiCounts[1])
+                .append("  skipped ").append(aiCounts[2]).append("  deferred ").append(aiCounts[3]);
+        y = drawLine(batch, x, y);
+
+        for (int i = 0; i < SECTIONS.length; i++) {
+            line.setLength(0);
+            line.append(SECTIONS[i].label).append(' ').append(format(sectionAverages[i])).append(" ms");
+            y = drawLine(batch, x, y);
+        }
+
+        line.setLength(0);
+        if (recording) {
+            line.append("recording to ").append(recordFile.name());
+        } else {
+            line.append(KeyBindings.getInstance().getKeyName(InputAction.RECORD_PROFILER)).append(" to record");
+        }
+        drawLine(batch, x, y);
+        batch.end();
+    }
+
+    public static float getFramePercentile(float percentile) {
+        if (historyCount == 0) {
+            return 0f;
+        }
+        System.arraycopy(frameHistory, 0, sortedFrames, 0, historyCount);
+        Arrays.sort(sortedFrames, 0, historyCount);
+        int index = Math.min(historyCount - 1, (int) Math.ceil(percentile * historyCount) - 1);
+        return sortedFrames[Math.max(0, index)];
+    }
+
+    public static float getSectionAverage(Section section) {
+        return sectionAverages[section.ordinal()];
+    }
+
+    public static float getAllocationRate() {
+        return allocationRate;
+    }
+
+    public static void dispose() {
+        stopRecording();
+        if (glProfiler != null) {
+            glProfiler.disable();
+            glProfiler = null;
+        }
+        if (font != null) {
+            font.dispose();
+            font = null;
+        }
+        if (panelTexture != null) {
+            panelTexture.dispose();
+            panelTexture = null;
+        }
+        enabled = false;
+    }
+
+    private static boolean isJustPressed(KeyBindings bindings, InputAction action) {
+        int key = bindings.getKey(action);
+        return key != -1 && Gdx.input.isKeyJustPressed(key);
+    }
+
+    private static void updateGlProfiler() {
+        if (AssetRegistry.isHeadless() || Gdx.graphics == null) {
+            return;
+        }
+        if (glProfiler == null) {
+            glProfiler = new GLProfiler(Gdx.graphics);
+        }
+        if (enabled || recording) {
+            glProfiler.enable();
+            glProfiler.reset();
+        } else {
+            glProfiler.disable();
+        }
+    }
+
+    private static void readGlCounters() {
+        if (glProfiler == null || !glProfiler.isEnabled()) {
+            return;
+        }
+        drawCalls = glProfiler.getDrawCalls();
+        textureBindings = glProfiler.getTextureBindings();
+        shaderSwitches = glProfiler.getShaderSwitches();
+        glProfiler.reset();
+    }
+
+    private static void updateAllocationRate(float delta) {
+        Runtime runtime = Runtime.getRuntime();
+        long used = runtime.totalMemory() - runtime.freeMemory();
+        if (lastUsedHeap >= 0 && used > lastUsedHeap) {
+            allocatedBytes += used - lastUsedHeap;
+        }
+        lastUsedHeap = used;
+
+        allocationWindow += delta;
+        if (allocationWindow >= 1f) {
+            allocationRate = allocatedBytes / allocationWindow;
+            allocatedBytes = 0;
+            allocationWindow = 0f;
+        }
+    }
+
+    private static void refreshSummary() {
+        p50 = getFramePercentile(0.50f);
+        p95 = getFramePercentile(0.95f);
+        p99 = getFramePercentile(0.99f);
+
+        for (int i = 0; i < SECTIONS.length; i++) {
+            float sum = 0f;
+            for (int sample = 0; sample < historyCount; sample++) {
+                sum += sectionHistory[i][sample];
+            }
+            sectionAverages[i] = historyCount > 0 ? sum / historyCount : 0f;
+        }
+    }
+
+    private static void startRecording() {
+        recordFile = Gdx.files.local(RECORD_DIRECTORY + "profile-" + System.currentTimeMillis() + ".csv");
+        try {
+            recordWriter = recordFile.writer(false, "UTF-8");
+            recordWriter.write("frame_ms,draw_calls,texture_binds,shader_switches,alloc_bytes_per_s,"
+                    + "ai_near,ai_far,ai_skipped,ai_deferred");
+            for (Section section : SECTIONS) {
+                recordWriter.write(',');
+                recordWriter.write(section.name().toLowerCase());
+                recordWriter.write("_ms");
+            }
+            recordWriter.write('\n');
+        } catch (Exception e) {
+            Gdx.app.error(TAG, "Failed to start recording: " + recordFile.path(), e);
+            closeWriter();
+            return;
+        }
+
+        recording = true;
+        recordedFrames = 0;
+        updateGlProfiler();
+        Gdx.app.log(TAG, "Recording to " + recordFile.path());
+    }
+
+    private static void stopRecording() {
+        if (!recording) {
+            return;
+        }
+        recording = false;
+        closeWriter();
+        updateGlProfiler();
+        Gdx.app.log(TAG, "Recorded " + recordedFrames + " frames to " + recordFile.path());
+    }
+
+    private static void recordFrame(float delta) {
+        line.setLength(0);
+        line.append(delta * 1000f).append(',').append(drawCalls).append(',').append(textureBindings)
+                .append(',').append(shaderSwitches).append(',').append((long) allocationRate);
+        for (int count : aiCounts) {
+            line.append(',').append(count);
+        }
+        for (int i = 0; i < SECTIONS.length; i++) {
+            line.append(',').append(sectionFrameNanos[i] / NANOS_PER_MILLI);
+        }
+        line.append('\n');
+
+        try {
+            recordWriter.append(line);
+            recordedFrames++;
+            if (recordedFrames % RECORD_FLUSH_FRAMES == 0) {
+                recordWriter.flush();
+            }
+        } catch (IOException e) {
+            Gdx.app.error(TAG, "Failed to write profile frame", e);
+            recording = false;
+            closeWriter();
+        }
+    }
+
+    private static void closeWriter() {
+        if (recordWriter == null) {
+            return;
+        }
+        try {
+            recordWriter.close();
+        } catch (IOException e) {
+            Gdx.app.error(TAG, "Failed to close profile recording", e);
+        }
+        recordWriter = null;
+    }
+
+    private static void ensureResources() {
+        if (font == null) {
+            font = new BitmapFont();
+            font.setColor(Color.WHITE);
+        }
+        if (panelTexture == null) {
+            Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+            pixmap.setColor(Color.WHITE);
+            pixmap.fill();
+            panelTexture = new Texture(pixmap);
+            pixmap.dispose();
+        }
+    }
+
+    private static float drawLine(SpriteBatch batch, float x, float y) {
+        font.draw(batch, line, x, y);
+        return y - LINE_HEIGHT;
+    }
+
+    private static float format(float value) {
+        return Math.round(value * 100f) / 100f;
+    }
+}
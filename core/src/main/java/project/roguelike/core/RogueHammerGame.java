@@ -4,11 +4,21 @@ import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import project.roguelike.scenes.LoadingScene;
 import project.roguelike.scenes.MainMenuScene;
 
 public class RogueHammerGame extends ApplicationAdapter {
     private SpriteBatch batch;
     private SceneManager sceneManager;
+    private final String replayPath;
+
+    public RogueHammerGame() {
+        this(null);
+    }
+
+    public RogueHammerGame(String replayPath) {
+        this.replayPath = replayPath;
+    }
 
     @Override
     public void create() {
@@ -16,7 +26,11 @@ public class RogueHammerGame extends ApplicationAdapter {
         sceneManager = new SceneManager();
 
         enableBlending();
-        sceneManager.setScene(new MainMenuScene(sceneManager));
+        if (replayPath != null) {
+            sceneManager.setScene(new LoadingScene(sceneManager, InputReplay.load(Gdx.files.absolute(replayPath))));
+        } else {
+            sceneManager.setScene(new MainMenuScene(sceneManager));
+        }
     }
 
     @Override
@@ -24,8 +38,11 @@ public class RogueHammerGame extends ApplicationAdapter {
         clearScreen();
 
         float delta = Gdx.graphics.getDeltaTime();
+        Profiler.handleInput(KeyBindings.getInstance());
         sceneManager.update(delta);
         sceneManager.render(batch);
+        Profiler.endFrame(delta);
+        Profiler.render(batch);
     }
 
     @Override
@@ -43,6 +60,9 @@ public class RogueHammerGame extends ApplicationAdapter {
         if (batch != null) {
             batch.dispose();
         }
+        Profiler.dispose();
+        SoundManager.dispose();
+        AssetRegistry.dispose();
     }
 
     private void enableBlending() {
@@ -21,96 +21,130 @@ import project.roguelike.items.passiveItems.MovementSpeedBoost;
 import project.roguelike.items.passiveItems.ReloadSpeedBoost;
 import java.util.List;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
-import java.util.Random;
 
 public class RoomContentGenerator {
-    private static final Random random = new Random();
-    private static final int MAX_SPAWN_ATTEMPTS = 1000;
     private static final int DOOR_SAFETY_RADIUS = 3;
+    private static final long PLACEMENT_KEY = 1L;
 
     public static void generate(Room room, RoomContentPlan plan) {
         Room.CellType[][] grid = room.getGrid();
+        FreeCellIndex freeCells = FreeCellIndex.forRoom(room, DOOR_SAFETY_RADIUS);
+        GameRandom.reseed(GameRandom.Stream.SPAWNS, GameRandom.deriveSeed(room.getContentSeed(), PLACEMENT_KEY));
 
-        spawnEnemies(room, grid, plan.enemies);
-        spawnItems(room, grid, plan.items);
-        spawnChests(room, grid, plan.chests);
-        spawnTraps(room, grid, plan.traps);
+        spawnEnemies(room, grid, freeCells, plan.enemies);
+        spawnItems(room, grid, freeCells, plan.items);
+        spawnChests(room, grid, freeCells, plan.chests);
+        spawnTraps(room, grid, freeCells, plan.traps);
+        room.markGridChanged();
     }
 
-    private static void spawnEnemies(Room room, Room.CellType[][] grid, List<RoomContentPlan.EnemySpawn> enemies) {
+    private static void spawnEnemies(Room room, Room.CellType[][] grid, FreeCellIndex freeCells,
+            List<RoomContentPlan.EnemySpawn> enemies) {
+        boolean crowded = enemies.size() >= GameConfig.ENEMY_CROWD_THRESHOLD;
         for (RoomContentPlan.EnemySpawn enemySpawn : enemies) {
-            Vector2 position = enemySpawn.position != null
-                    ? cellToWorldPosition(room, enemySpawn.position)
-                    : getRandomFreePosition(room, grid);
-
+            Vector2 position = resolvePosition(room, grid, freeCells, enemySpawn.position, CellType.ENEMY);
             if (position != null) {
-                createEnemy(room, enemySpawn.type, position);
+                createEnemy(room, enemySpawn.type, position, crowded);
             }
         }
     }
 
-    private static void spawnItems(Room room, Room.CellType[][] grid, List<RoomContentPlan.ItemSpawn> items) {
+    private static void spawnItems(Room room, Room.CellType[][] grid, FreeCellIndex freeCells,
+            List<RoomContentPlan.ItemSpawn> items) {
         for (RoomContentPlan.ItemSpawn itemSpawn : items) {
-            Vector2 position = itemSpawn.position != null
-                    ? cellToWorldPosition(room, itemSpawn.position)
-                    : getRandomFreePosition(room, grid);
-
+            Vector2 position = resolvePosition(room, grid, freeCells, itemSpawn.position, CellType.ITEM);
             if (position != null) {
                 createItem(room, itemSpawn.id, position);
             }
         }
     }
 
-    private static void spawnChests(Room room, Room.CellType[][] grid, List<RoomContentPlan.ChestSpawn> chests) {
+    private static void spawnChests(Room room, Room.CellType[][] grid, FreeCellIndex freeCells,
+            List<RoomContentPlan.ChestSpawn> chests) {
         for (RoomContentPlan.ChestSpawn chestSpawn : chests) {
-            Vector2 position = chestSpawn.position != null
-                    ? cellToWorldPosition(room, chestSpawn.position)
-                    : getRandomFreePosition(room, grid);
-
+            Vector2 position = resolvePosition(room, grid, freeCells, chestSpawn.position, CellType.CHEST);
             if (position != null) {
                 createChest(room, position);
             }
         }
     }
 
-    private static void spawnTraps(Room room, CellType[][] grid, List<TrapSpawn> traps) {
+    private static void spawnTraps(Room room, CellType[][] grid, FreeCellIndex freeCells, List<TrapSpawn> traps) {
         for (TrapSpawn trapSpawn : traps) {
-            Vector2 position = trapSpawn.position != null
-                    ? cellToWorldPosition(room, trapSpawn.position)
-                    : getRandomFreePosition(room, grid);
-
+            Vector2 position = resolvePosition(room, grid, freeCells, trapSpawn.position, CellType.ENEMY);
             if (position != null) {
                 createTrap(room, position, trapSpawn.damage);
             }
         }
     }
 
-    private static void createEnemy(Room room, String type, Vector2 position) {
-        Enemy enemy = instantiateEnemy(type, position);
-        if (enemy != null) {
-            enemy.setParentRoom(room);
-            room.getEnemies().add(enemy);
+    private static Vector2 resolvePosition(Room room, CellType[][] grid, FreeCellIndex freeCells,
+            Vector2 cellPosition, CellType occupant) {
+        if (cellPosition != null) {
+            freeCells.remove((int) cellPosition.x, (int) cellPosition.y);
+            return cellToWorldPosition(room, cellPosition);
+        }
+
+        int cell = freeCells.take(GameRandom.get(GameRandom.Stream.SPAWNS));
+        if (cell < 0) {
+            Gdx.app.error("RoomContentGenerator", "No free spawn cell left in room at "
+                    + room.getGridRow() + "," + room.getGridCol());
+            return null;
         }
+
+        int x = freeCells.cellX(cell);
+        int y = freeCells.cellY(cell);
+        grid[x][y] = occupant;
+        return cellToWorldPosition(room, x, y);
     }
 
-    private static Enemy instantiateEnemy(String type, Vector2 position) {
+    private static void createEnemy(Room room, String type, Vector2 position, boolean crowded) {
+        EnemyArchetype archetype = resolveArchetype(type);
+        if (archetype == null) {
+            return;
+        }
+
+        if (crowded) {
+            room.getCrowd().spawn(archetype, position.x, position.y);
+            return;
+        }
+
+        Enemy enemy = instantiateEnemy(archetype, position);
+        enemy.setParentRoom(room);
+        room.getEnemies().add(enemy);
+    }
+
+    private static EnemyArchetype resolveArchetype(String type) {
         switch (type.toLowerCase()) {
             case "orc":
-                return new OrcEnemy(position);
+                return EnemyArchetype.ORC;
             case "goblin":
-                return new GoblinEnemy(position);
+                return EnemyArchetype.GOBLIN;
             case "boss":
-                return new BossEnemy(position);
+                return EnemyArchetype.BOSS;
             default:
                 return null;
         }
     }
 
+    private static Enemy instantiateEnemy(EnemyArchetype archetype, Vector2 position) {
+        switch (archetype) {
+            case ORC:
+                return new OrcEnemy(position);
+            case BOSS:
+                return new BossEnemy(position);
+            case GOBLIN:
+            default:
+                return new GoblinEnemy(position);
+        }
+    }
+
     private static void createItem(Room room, String type, Vector2 position) {
         Item item;
         if ("random".equalsIgnoreCase(type)) {
-            item = ItemFactory.createRandomItem(position);
+            item = ItemFactory.createRandomItem(position, GameRandom.get(GameRandom.Stream.SPAWNS));
         } else {
             item = instantiateItem(type);
             if (item != null) {
@@ -184,9 +218,10 @@ public class RoomContentGenerator {
         if (cellPosition == null) {
             return null;
         }
+        return cellToWorldPosition(room, (int) cellPosition.x, (int) cellPosition.y);
+    }
 
-        int cellX = (int) cellPosition.x;
-        int cellY = (int) cellPosition.y;
+    private static Vector2 cellToWorldPosition(Room room, int cellX, int cellY) {
         float halfTile = GameConfig.TILE_SIZE / 2f;
 
         float worldX = room.getPosition().x + cellX * GameConfig.TILE_SIZE + halfTile;
@@ -194,73 +229,4 @@ public class RoomContentGenerator {
 
         return new Vector2(worldX, worldY);
     }
-
-    private static Vector2 getRandomFreePosition(Room room, Room.CellType[][] grid) {
-        int width = grid.length;
-        int height = grid[0].length;
-
-        for (int attempt = 0; attempt < MAX_SPAWN_ATTEMPTS; attempt++) {
-            int x = random.nextInt(width);
-            int y = random.nextInt(height);
-
-            if (isValidSpawnLocation(room, grid, x, y)) {
-                grid[x][y] = Room.CellType.ENEMY;
-                return cellToWorldPosition(room, new Vector2(x, y));
-            }
-        }
-
-        return null;
-    }
-
-    private static boolean isValidSpawnLocation(Room room, Room.CellType[][] grid, int x, int y) {
-        if (!isWithinBounds(grid, x, y)) {
-            return false;
-        }
-
-        if (grid[x][y] != Room.CellType.EMPTY) {
-            return false;
-        }
-
-        return !isNearDoor(room, x, y);
-    }
-
-    private static boolean isWithinBounds(Room.CellType[][] grid, int x, int y) {
-        int width = grid.length;
-        int height = grid[0].length;
-        return x >= 1 && y >= 1 && x < width - 1 && y < height - 1;
-    }
-
-    private static boolean isNearDoor(Room room, int gridX, int gridY) {
-        for (Room.DoorDirection door : room.getDoors()) {
-            Vector2 doorPosition = getDoorGridPosition(room, door);
-            float distance = Math.max(
-                    Math.abs(doorPosition.x - gridX),
-                    Math.abs(doorPosition.y - gridY));
-
-            if (distance <= DOOR_SAFETY_RADIUS) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private static Vector2 getDoorGridPosition(Room room, Room.DoorDirection door) {
-        int gridWidth = room.getGrid().length;
-        int gridHeight = room.getGrid()[0].length;
-        int centerX = gridWidth / 2;
-        int centerY = gridHeight / 2;
-
-        switch (door) {
-            case UP:
-                return new Vector2(centerX, gridHeight - 1);
-            case DOWN:
-                return new Vector2(centerX, 0);
-            case LEFT:
-                return new Vector2(0, centerY);
-            case RIGHT:
-                return new Vector2(gridWidth - 1, centerY);
-            default:
-                return new Vector2(centerX, centerY);
-        }
-    }
 }
@@ -0,0 +1,37 @@
+package project.roguelike.core;
+
+import com.badlogic.gdx.utils.TimeUtils;
+import java.util.ArrayDeque;
+import project.roguelike.rooms.Room;
+
+public class RoomPrefetcher {
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final ArrayDeque<Room> queue = new ArrayDeque<>();
+
+    public void enqueue(Room room) {
+        if (room == null || room.isContentGenerated() || queue.contains(room)) {
+            return;
+        }
+        queue.addLast(room);
+    }
+
+    public void clear() {
+        queue.clear();
+    }
+
+    public void update(int budgetMillis) {
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        long deadline = TimeUtils.nanoTime() + budgetMillis * NANOS_PER_MILLI;
+        while (!queue.isEmpty() && TimeUtils.nanoTime() < deadline) {
+            queue.pollFirst().generateContentIfNeeded();
+        }
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+}
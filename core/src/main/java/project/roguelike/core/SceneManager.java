@@ -12,15 +12,18 @@ public class SceneManager {
     private final InputManager globalInputManager = new InputManager();
 
     public void setScene(Scene scene) {
-        if (isGameOverTransition(scene)) {
-            handleGameOverTransition();
-        } else {
-            handleNormalTransition();
-        }
-
-        sceneStack.push(scene);
+        Profiler.begin(Profiler.Section.SCENE_TRANSITION);
+        replaceScenes(scene);
         scene.create();
         scene.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        Profiler.end(Profiler.Section.SCENE_TRANSITION);
+    }
+
+    public void setCreatedScene(Scene scene) {
+        Profiler.begin(Profiler.Section.SCENE_TRANSITION);
+        replaceScenes(scene);
+        scene.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        Profiler.end(Profiler.Section.SCENE_TRANSITION);
     }
 
     public Scene getCurrentScene() {
@@ -28,9 +31,11 @@ public class SceneManager {
     }
 
     public void pushScene(Scene newScene) {
+        Profiler.begin(Profiler.Section.SCENE_TRANSITION);
         sceneStack.push(newScene);
         newScene.create();
         newScene.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        Profiler.end(Profiler.Section.SCENE_TRANSITION);
     }
 
     public void popScene() {
@@ -38,6 +43,7 @@ public class SceneManager {
             return;
         }
 
+        Profiler.begin(Profiler.Section.SCENE_TRANSITION);
         Scene popped = sceneStack.pop();
         cleanupPoppedScene(popped);
 
@@ -45,6 +51,7 @@ public class SceneManager {
         if (resumed != null) {
             resumed.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         }
+        Profiler.end(Profiler.Section.SCENE_TRANSITION);
     }
 
     public void update(float delta) {
@@ -81,6 +88,16 @@ public class SceneManager {
         return globalInputManager;
     }
 
+    private void replaceScenes(Scene scene) {
+        if (isGameOverTransition(scene)) {
+            handleGameOverTransition();
+        } else {
+            handleNormalTransition();
+        }
+
+        sceneStack.push(scene);
+    }
+
     private boolean isGameOverTransition(Scene scene) {
         return scene instanceof GameOverScene && !sceneStack.isEmpty();
     }
@@ -0,0 +1,204 @@
+package project.roguelike.core;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import project.roguelike.entities.Chest;
+import project.roguelike.entities.Enemy;
+import project.roguelike.entities.Player;
+import project.roguelike.items.Item;
+import project.roguelike.items.weapons.Weapon;
+import project.roguelike.rooms.EndRoom;
+import project.roguelike.rooms.Room;
+import project.roguelike.rooms.ShopRoom;
+
+public class SimulationBot implements HeadlessSimulation.Controller {
+    private static final float MIN_ENGAGE_DISTANCE = GameConfig.TILE_SIZE * 3f;
+    private static final float MAX_ENGAGE_DISTANCE = GameConfig.TILE_SIZE * 6f;
+    private static final float ARRIVAL_DISTANCE = GameConfig.TILE_SIZE * 0.25f;
+
+    private final Set<Room> visitedRooms = new HashSet<>();
+    private final Set<Chest> triedChests = new HashSet<>();
+    private final Vector2 moveDirection = new Vector2();
+    private final Vector2 goal = new Vector2();
+    private final InputState state = new InputState();
+    private WorldManager world;
+    private boolean pulse = false;
+
+    @Override
+    public InputState control(WorldManager world, Vector2 aimTarget) {
+        if (this.world != world) {
+            this.world = world;
+            visitedRooms.clear();
+            triedChests.clear();
+        }
+
+        Room room = world.getCurrentRoom();
+        Player player = world.getPlayer();
+        Vector2 position = player.getPosition();
+        visitedRooms.add(room);
+        pulse = !pulse;
+        moveDirection.setZero();
+
+        Enemy target = findNearestEnemy(room, position);
+        if (target != null) {
+            return engage(player, target, aimTarget);
+        }
+
+        if (!findGoal(room, position)) {
+            return createState(false, false, false);
+        }
+
+        aimTarget.set(goal);
+        if (position.dst2(goal) > ARRIVAL_DISTANCE * ARRIVAL_DISTANCE) {
+            moveDirection.set(goal).sub(position).nor();
+        }
+        return createState(false, false, pulse);
+    }
+
+    private InputState engage(Player player, Enemy target, Vector2 aimTarget) {
+        Vector2 position = player.getPosition();
+        Vector2 enemyPosition = target.getPosition();
+        aimTarget.set(enemyPosition);
+
+        float distance = position.dst(enemyPosition);
+        if (distance < MIN_ENGAGE_DISTANCE) {
+            moveDirection.set(position).sub(enemyPosition).nor();
+        } else if (distance > MAX_ENGAGE_DISTANCE) {
+            moveDirection.set(enemyPosition).sub(position).nor();
+        }
+
+        Weapon weapon = player.getEquippedWeapon();
+        boolean reload = weapon != null && weapon.getCurrentAmmo() == 0 && !weapon.isReloading();
+        return createState(true, reload, false);
+    }
+
+    private InputState createState(boolean shoot, boolean reload, boolean use) {
+        return state.set(moveDirection, shoot, shoot && pulse, reload, use, false, false, false);
+    }
+
+    private Enemy findNearestEnemy(Room room, Vector2 position) {
+        Enemy nearest = null;
+        float nearestDistance = Float.MAX_VALUE;
+        for (Enemy enemy : room.getEnemies()) {
+            if (!enemy.isActive() || enemy.isDead() || enemy.isDying()) {
+                continue;
+            }
+
+            float distance = position.dst2(enemy.getPosition());
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = enemy;
+            }
+        }
+        return nearest;
+    }
+
+    private boolean findGoal(Room room, Vector2 position) {
+        if (!(room instanceof ShopRoom) && (findLoot(room, position) || findChest(room, position))) {
+            return true;
+        }
+
+        boolean explored = visitedRooms.size() >= world.getRooms().size();
+        if (room instanceof EndRoom && explored) {
+            goal.set(room.getCenter());
+            return true;
+        }
+
+        Room.DoorDirection door = findNextDoor(room, explored);
+        if (door == null) {
+            return false;
+        }
+
+        Rectangle bounds = room.getDoorBounds(door);
+        bounds.getCenter(goal);
+        return true;
+    }
+
+    private boolean findLoot(Room room, Vector2 position) {
+        Item nearest = null;
+        float nearestDistance = Float.MAX_VALUE;
+        for (Item item : room.getItems()) {
+            if (item.getPosition() == null) {
+                continue;
+            }
+
+            float distance = position.dst2(item.getPosition());
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = item;
+            }
+        }
+
+        if (nearest == null) {
+            return false;
+        }
+        goal.set(nearest.getPosition());
+        return true;
+    }
+
+    private boolean findChest(Room room, Vector2 position) {
+        Player player = world.getPlayer();
+        for (Chest chest : room.getChests()) {
+            if (chest.isOpened() || chest.isRemoved() || triedChests.contains(chest)) {
+                continue;
+            }
+
+            if (player.getBounds().overlaps(chest.getBounds())) {
+                triedChests.add(chest);
+            }
+            chest.getBounds().getCenter(goal);
+            return true;
+        }
+        return false;
+    }
+
+    private Room.DoorDirection findNextDoor(Room start, boolean explored) {
+        Map<Room, Room.DoorDirection> firstStep = new HashMap<>();
+        ArrayDeque<Room> queue = new ArrayDeque<>();
+        firstStep.put(start, null);
+        queue.add(start);
+
+        while (!queue.isEmpty()) {
+            Room room = queue.poll();
+            boolean isTarget = explored ? room instanceof EndRoom : !visitedRooms.contains(room);
+            if (room != start && isTarget) {
+                return firstStep.get(room);
+            }
+
+            List<Room.DoorDirection> doors = room.getDoors();
+            for (Room.DoorDirection door : doors) {
+                Room next = getNeighbour(room, door);
+                if (next == null || firstStep.containsKey(next)) {
+                    continue;
+                }
+
+                firstStep.put(next, room == start ? door : firstStep.get(room));
+                queue.add(next);
+            }
+        }
+        return null;
+    }
+
+    private Room getNeighbour(Room room, Room.DoorDirection door) {
+        int row = room.getGridRow();
+        int col = room.getGridCol();
+        switch (door) {
+            case UP:
+                return world.getRoomAt(row - 1, col);
+            case DOWN:
+                return world.getRoomAt(row + 1, col);
+            case LEFT:
+                return world.getRoomAt(row, col - 1);
+            case RIGHT:
+                return world.getRoomAt(row, col + 1);
+            default:
+                return null;
+        }
+    }
+}
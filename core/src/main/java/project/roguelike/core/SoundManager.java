@@ -3,31 +3,63 @@ package project.roguelike.core;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import java.util.Arrays;
 
 public class SoundManager {
-    public static final Music musicMenu = Gdx.audio.newMusic(Gdx.files.internal("sounds/music_menu.mp3"));
-    public static final Music musicBoss = Gdx.audio.newMusic(Gdx.files.internal("sounds/music_boss.mp3"));
-    public static final Music musicWin = Gdx.audio.newMusic(Gdx.files.internal("sounds/music_win.mp3"));
-    public static final Music musicLoose = Gdx.audio.newMusic(Gdx.files.internal("sounds/music_loose.mp3"));
-    public static final Sound soundGunShot = Gdx.audio.newSound(Gdx.files.internal("sounds/gun_shot.wav"));
-    public static final Sound soundReload = Gdx.audio.newSound(Gdx.files.internal("sounds/reload.wav"));
-    public static final Sound soundButtonClick = Gdx.audio.newSound(Gdx.files.internal("sounds/button_click.wav"));
-    public static final Sound soundPlayerHit = Gdx.audio.newSound(Gdx.files.internal("sounds/player_hit.wav"));
-    public static final Sound soundPlayerDeath = Gdx.audio.newSound(Gdx.files.internal("sounds/player_death.wav"));
-    public static final Sound soundItemPickup = Gdx.audio.newSound(Gdx.files.internal("sounds/item_pickup.wav"));
-    public static final Sound soundItemChange = Gdx.audio.newSound(Gdx.files.internal("sounds/item_change.wav"));
-    public static final Sound soundEnemyHit = Gdx.audio.newSound(Gdx.files.internal("sounds/enemy_hit.wav"));
-    public static final Sound soundEnemyDeath = Gdx.audio.newSound(Gdx.files.internal("sounds/enemy_death.wav"));
-    public static final Sound soundItemBuy = Gdx.audio.newSound(Gdx.files.internal("sounds/item_buy.wav"));
-    public static final Sound soundOpenChest = Gdx.audio.newSound(Gdx.files.internal("sounds/open_chest.wav"));
+    public static final String MUSIC_MENU = "sounds/music_menu.mp3";
+    public static final String MUSIC_BOSS = "sounds/music_boss.mp3";
+    public static final String MUSIC_WIN = "sounds/music_win.mp3";
+    public static final String MUSIC_LOOSE = "sounds/music_loose.mp3";
+
+    private static final float PITCH_MIN = 0.95f;
+    private static final float PITCH_RANGE = 0.1f;
+
+    private static final Effect GUN_SHOT = new Effect("sounds/gun_shot.wav", 4);
+    private static final Effect RELOAD = new Effect("sounds/reload.wav", 1);
+    private static final Effect BUTTON_CLICK = new Effect("sounds/button_click.wav", 2);
+    private static final Effect PLAYER_HIT = new Effect("sounds/player_hit.wav", 2);
+    private static final Effect PLAYER_DEATH = new Effect("sounds/player_death.wav", 1);
+    private static final Effect ITEM_PICKUP = new Effect("sounds/item_pickup.wav", 2);
+    private static final Effect ITEM_CHANGE = new Effect("sounds/item_change.wav", 1);
+    private static final Effect ENEMY_HIT = new Effect("sounds/enemy_hit.wav", 3);
+    private static final Effect ENEMY_DEATH = new Effect("sounds/enemy_death.wav", 3);
+    private static final Effect ITEM_BUY = new Effect("sounds/item_buy.wav", 1);
+    private static final Effect OPEN_CHEST = new Effect("sounds/open_chest.wav", 2);
+
+    private static final Effect[] EFFECTS = {
+            GUN_SHOT, RELOAD, BUTTON_CLICK, PLAYER_HIT, PLAYER_DEATH, ITEM_PICKUP,
+            ITEM_CHANGE, ENEMY_HIT, ENEMY_DEATH, ITEM_BUY, OPEN_CHEST
+    };
 
     private static Music currentMusic = null;
+    private static String currentMusicPath = null;
 
-    public static void playMusic(Music music, boolean looping) {
-        if (currentMusic != null && currentMusic.isPlaying()) {
+    private static class Effect {
+        final String path;
+        final long[] voices;
+        Sound sound;
+        int nextVoice = 0;
+        long lastPlayedFrame = -1;
+        boolean failed = false;
+
+        Effect(String path, int maxVoices) {
+            this.path = path;
+            this.voices = new long[maxVoices];
+            Arrays.fill(voices, -1L);
+        }
+    }
+
+    public static void playMusic(String path, boolean looping) {
+        if (currentMusic != null) {
             currentMusic.stop();
         }
-        currentMusic = music;
+
+        if (path == null || !path.equals(currentMusicPath)) {
+            closeMusic();
+            currentMusic = openMusic(path);
+            currentMusicPath = currentMusic != null ? path : null;
+        }
+
         if (currentMusic != null) {
             currentMusic.setLooping(looping);
             currentMusic.setVolume(UserSettings.masterVolume * UserSettings.musicVolume);
@@ -46,10 +78,7 @@ public class SoundManager {
     }
 
     public static void stopMusic() {
-        if (currentMusic != null) {
-            currentMusic.stop();
-        }
-        currentMusic = null;
+        closeMusic();
     }
 
     public static void pauseMusic() {
@@ -65,105 +94,131 @@ public class SoundManager {
     }
 
     public static void playButtonClick() {
-        if (soundButtonClick != null) {
-            float vol = UserSettings.masterVolume * UserSettings.uiVolume;
-            soundButtonClick.play(vol);
-        }
+        play(BUTTON_CLICK, UserSettings.uiVolume, false);
     }
 
     public static void playPlayerHit() {
-        if (soundPlayerHit != null) {
-            float pitch = 0.95f + (float) Math.random() * 0.1f;
-            float vol = UserSettings.masterVolume * UserSettings.sfxVolume;
-            soundPlayerHit.play(vol, pitch, 0f);
-        }
+        play(PLAYER_HIT, UserSettings.sfxVolume, true);
     }
 
     public static void playPlayerDeath() {
-        if (soundPlayerDeath != null) {
-            float pitch = 0.95f + (float) Math.random() * 0.1f;
-            float vol = UserSettings.masterVolume * UserSettings.sfxVolume;
-            soundPlayerDeath.play(vol, pitch, 0f);
-        }
+        play(PLAYER_DEATH, UserSettings.sfxVolume, true);
     }
 
     public static void playShot() {
-        if (soundGunShot != null) {
-            float pitch = 0.95f + (float) Math.random() * 0.1f;
-            float vol = UserSettings.masterVolume * UserSettings.sfxVolume;
-            soundGunShot.play(vol, pitch, 0f);
-        }
+        play(GUN_SHOT, UserSettings.sfxVolume, true);
     }
 
     public static void playReload() {
-        if (soundReload != null) {
-            float pitch = 0.95f + (float) Math.random() * 0.1f;
-            float vol = UserSettings.masterVolume * UserSettings.sfxVolume;
-            soundReload.play(vol, pitch, 0f);
-        }
+        play(RELOAD, UserSettings.sfxVolume, true);
     }
 
     public static void playItemPickup() {
-        if (soundItemPickup != null) {
-            float pitch = 0.95f + (float) Math.random() * 0.1f;
-            float vol = UserSettings.masterVolume * UserSettings.sfxVolume;
-            soundItemPickup.play(vol, pitch, 0f);
-        }
+        play(ITEM_PICKUP, UserSettings.sfxVolume, true);
     }
 
     public static void playItemChange() {
-        if (soundItemChange != null) {
-            float pitch = 0.95f + (float) Math.random() * 0.1f;
-            float vol = UserSettings.masterVolume * UserSettings.uiVolume;
-            soundItemChange.play(vol, pitch, 0f);
-        }
+        play(ITEM_CHANGE, UserSettings.uiVolume, true);
     }
 
     public static void playEnemyHit() {
-        if (soundEnemyHit != null) {
-            float pitch = 0.95f + (float) Math.random() * 0.1f;
-            float vol = UserSettings.masterVolume * UserSettings.sfxVolume;
-            soundEnemyHit.play(vol, pitch, 0f);
-        }
+        play(ENEMY_HIT, UserSettings.sfxVolume, true);
     }
 
     public static void playEnemyDeath() {
-        if (soundEnemyDeath != null) {
-            float pitch = 0.95f + (float) Math.random() * 0.1f;
-            float vol = UserSettings.masterVolume * UserSettings.sfxVolume;
-            soundEnemyDeath.play(vol, pitch, 0f);
-        }
+        play(ENEMY_DEATH, UserSettings.sfxVolume, true);
     }
 
     public static void playItemBuy() {
-        if (soundItemBuy != null) {
-            float pitch = 0.95f + (float) Math.random() * 0.1f;
-            float vol = UserSettings.masterVolume * UserSettings.sfxVolume;
-            soundItemBuy.play(vol, pitch, 0f);
-        }
+        play(ITEM_BUY, UserSettings.sfxVolume, true);
     }
 
     public static void playOpenChest() {
-        if (soundOpenChest != null) {
-            float pitch = 0.95f + (float) Math.random() * 0.1f;
-            float vol = UserSettings.masterVolume * UserSettings.sfxVolume;
-            soundOpenChest.play(vol, pitch, 0f);
+        play(OPEN_CHEST, UserSettings.sfxVolume, true);
+    }
+
+    public static int getLoadedSoundCount() {
+        int count = 0;
+        for (Effect effect : EFFECTS) {
+            if (effect.sound != null) {
+                count++;
+            }
         }
+        return count;
     }
 
     public static void dispose() {
-        musicMenu.dispose();
-        musicBoss.dispose();
-        musicWin.dispose();
-        musicLoose.dispose();
-        soundGunShot.dispose();
-        soundReload.dispose();
-        soundButtonClick.dispose();
-        soundPlayerHit.dispose();
-        soundPlayerDeath.dispose();
-        soundItemPickup.dispose();
-        soundItemChange.dispose();
-        soundItemBuy.dispose();
-        soundOpenChest.dispose();
-    }
-}
\ No newline at end of file
+        closeMusic();
+        for (Effect effect : EFFECTS) {
+            if (effect.sound != null) {
+                effect.sound.dispose();
+                effect.sound = null;
+            }
+            Arrays.fill(effect.voices, -1L);
+            effect.nextVoice = 0;
+            effect.lastPlayedFrame = -1;
+            effect.failed = false;
+        }
+    }
+
+    private static void play(Effect effect, float categoryVolume, boolean randomPitch) {
+        if (AssetRegistry.isHeadless()) {
+            return;
+        }
+
+        long frame = Gdx.graphics.getFrameId();
+        if (effect.lastPlayedFrame == frame) {
+            return;
+        }
+
+        Sound sound = getSound(effect);
+        if (sound == null) {
+            return;
+        }
+        effect.lastPlayedFrame = frame;
+
+        int slot = effect.nextVoice;
+        if (effect.voices[slot] != -1L) {
+            sound.stop(effect.voices[slot]);
+        }
+
+        float volume = UserSettings.masterVolume * categoryVolume;
+        float pitch = randomPitch ? PITCH_MIN + GameRandom.get(GameRandom.Stream.AUDIO).nextFloat() * PITCH_RANGE : 1f;
+        effect.voices[slot] = sound.play(volume, pitch, 0f);
+        effect.nextVoice = (slot + 1) % effect.voices.length;
+    }
+
+    private static Sound getSound(Effect effect) {
+        if (effect.sound == null && !effect.failed) {
+            try {
+                effect.sound = Gdx.audio.newSound(Gdx.files.internal(effect.path));
+            } catch (Exception e) {
+                effect.failed = true;
+                Gdx.app.error("SoundManager", "Failed to load sound: " + effect.path, e);
+            }
+        }
+        return effect.sound;
+    }
+
+    private static Music openMusic(String path) {
+        if (path == null || AssetRegistry.isHeadless()) {
+            return null;
+        }
+
+        try {
+            return Gdx.audio.newMusic(Gdx.files.internal(path));
+        } catch (Exception e) {
+            Gdx.app.error("SoundManager", "Failed to open music: " + path, e);
+            return null;
+        }
+    }
+
+    private static void closeMusic() {
+        if (currentMusic != null) {
+            currentMusic.stop();
+            currentMusic.dispose();
+        }
+        currentMusic = null;
+        currentMusicPath = null;
+    }
+}
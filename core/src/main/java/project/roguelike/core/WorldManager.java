@@ -2,14 +2,16 @@ package project.roguelike.core;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.graphics.Cursor.SystemCursor;
 import project.roguelike.entities.Player;
 import project.roguelike.levels.LevelGenerator;
+import project.roguelike.levels.PreparedFloor;
 import project.roguelike.levels.RoomData;
 import project.roguelike.rooms.*;
 import project.roguelike.scenes.GameOverScene;
@@ -20,11 +22,12 @@ public class WorldManager {
     private static final float DEATH_TRANSITION_DELAY = 2.0f;
     private static final float CAMERA_LERP_FACTOR = 0.25f;
     private static final float DOOR_SPAWN_OFFSET_DIVISOR = 12f;
+    private static final String CROSSHAIR_TEXTURE_PATH = "textures/crosshair.png";
 
     private InputManager inputManager;
     private final SceneManager sceneManager;
     private final GameStatistics statistics;
-    private final GameUI gameUI;
+    private GameUI gameUI;
 
     private final RoomData[][] layout;
     private List<Room> rooms;
@@ -33,74 +36,149 @@ public class WorldManager {
     private int currentCol;
 
     private Player player;
+    private RoomGeometryCache roomGeometry;
+    private final RoomPrefetcher roomPrefetcher = new RoomPrefetcher();
 
     private OrthographicCamera camera;
     private FitViewport viewport;
-    private Texture crosshair;
+    private TextureRegion crosshair;
     private final Vector2 worldMouse = new Vector2();
+    private InputRecorder inputRecorder;
+    private InputReplay inputReplay;
+    private int pendingScroll;
+
+    private final FixedTimestep timestep = new FixedTimestep(
+            GameConfig.SIMULATION_TICK_RATE, GameConfig.MAX_SIMULATION_STEPS_PER_FRAME);
 
     private float deathTransitionTimer = 0f;
     private boolean playerDeathTriggered = false;
+    private boolean gameOverTriggered = false;
     private boolean bossMusicPlaying = false;
 
     public WorldManager(RoomData[][] layout, SceneManager sceneManager) {
         this.layout = layout;
         this.sceneManager = sceneManager;
         this.statistics = new GameStatistics();
-        this.gameUI = new GameUI();
     }
 
     public WorldManager(RoomData[][] layout, SceneManager sceneManager, Player player) {
         this.layout = layout;
         this.sceneManager = sceneManager;
         this.statistics = new GameStatistics();
-        this.gameUI = new GameUI();
         this.player = player;
     }
 
+    public WorldManager(PreparedFloor floor, SceneManager sceneManager, Player player) {
+        this.layout = floor.getLayout();
+        this.sceneManager = sceneManager;
+        this.statistics = new GameStatistics();
+        this.player = player;
+        this.rooms = floor.getRooms();
+        this.roomGeometry = floor.getGeometry();
+    }
+
     public void create() {
+        gameUI = new GameUI();
         initializeInput();
         initializeLevel();
+        if (roomGeometry == null) {
+            roomGeometry = new RoomGeometryCache(rooms);
+        }
         initializeCamera();
         initializePlayer();
         resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
     }
 
+    public void createHeadless() {
+        inputManager = new InputManager();
+        initializeLevel();
+        initializePlayer();
+    }
+
+    public void step(float delta, InputState input, Vector2 aimTarget) {
+        inputManager.applyState(input);
+        worldMouse.set(aimTarget);
+        tick(delta, Long.MAX_VALUE);
+    }
+
     public void update(float delta) {
-        statistics.update(delta);
+        Profiler.begin(Profiler.Section.INPUT);
         inputManager.update();
+        if (inputReplay != null) {
+            inputManager.clearEvents();
+        }
         updateMousePosition();
-
-        if (currentRoom instanceof BossRoom) {
-            if (!bossMusicPlaying && currentRoom.hasAliveEnemies()) {
-                SoundManager.playMusic(SoundManager.musicBoss, true);
-                bossMusicPlaying = true;
-            }
-            if (bossMusicPlaying && !currentRoom.hasAliveEnemies()) {
-                SoundManager.playMusic(SoundManager.musicMenu, true);
-                bossMusicPlaying = false;
+        Profiler.end(Profiler.Section.INPUT);
+        updateMusic();
+
+        int steps = timestep.advance(delta);
+        long frameNanos = TimeUtils.nanoTime();
+        long stepNanos = (long) (timestep.getStepDelta() * 1_000_000_000L);
+        for (int i = 0; i < steps; i++) {
+            if (inputReplay != null) {
+                applyReplayTick();
             }
-        } else {
-            if (bossMusicPlaying) {
-                SoundManager.playMusic(SoundManager.musicMenu, true);
-                bossMusicPlaying = false;
+            long inputCutoff = i == steps - 1 ? Long.MAX_VALUE : frameNanos - (steps - 1 - i) * stepNanos;
+            tick(timestep.getStepDelta(), inputCutoff);
+
+            if (gameOverTriggered || player.isLevelTransitionRequested()) {
+                break;
             }
         }
 
+        roomPrefetcher.update(GameConfig.ROOM_PREFETCH_FRAME_BUDGET_MS);
+    }
+
+    private void tick(float delta, long inputCutoff) {
+        InputState input = inputManager.captureTick(inputCutoff);
+        if (inputRecorder != null) {
+            inputRecorder.record(input, worldMouse, pendingScroll);
+        }
+        statistics.update(delta);
+        applyPendingScroll();
+
         if (playerDeathTriggered) {
             handleDeathTransition(delta);
             return;
         }
 
+        Profiler.begin(Profiler.Section.PLAYER);
         updatePlayer(delta);
+        Profiler.end(Profiler.Section.PLAYER);
+
+        Profiler.begin(Profiler.Section.ROOM_UPDATE);
         updateCurrentRoom(delta);
+        Profiler.end(Profiler.Section.ROOM_UPDATE);
 
         if (checkPlayerDeath()) {
             return;
         }
 
+        Profiler.begin(Profiler.Section.DOORS);
         updateDoorInteraction();
+        Profiler.end(Profiler.Section.DOORS);
+
+        Profiler.begin(Profiler.Section.CAMERA);
         updateCameraToCurrentRoom(false);
+        Profiler.end(Profiler.Section.CAMERA);
+    }
+
+    private void updateMusic() {
+        if (currentRoom instanceof BossRoom) {
+            if (!bossMusicPlaying && currentRoom.hasAliveEnemies()) {
+                SoundManager.playMusic(SoundManager.MUSIC_BOSS, true);
+                bossMusicPlaying = true;
+            }
+            if (bossMusicPlaying && !currentRoom.hasAliveEnemies()) {
+                SoundManager.playMusic(SoundManager.MUSIC_MENU, true);
+                bossMusicPlaying = false;
+            }
+        } else {
+            if (bossMusicPlaying) {
+                SoundManager.playMusic(SoundManager.MUSIC_MENU, true);
+                bossMusicPlaying = false;
+            }
+        }
     }
 
     public void render(SpriteBatch batch) {
@@ -111,12 +189,26 @@ public class WorldManager {
         camera.update();
         batch.setProjectionMatrix(camera.combined);
 
+        float alpha = timestep.getAlpha();
+        currentRoom.interpolate(alpha);
+        player.interpolate(alpha);
+
+        Profiler.begin(Profiler.Section.ROOM_RENDER);
+        batch.end();
+        roomGeometry.render(camera.combined, currentRoom);
+        batch.begin();
         currentRoom.render(batch);
+        Profiler.end(Profiler.Section.ROOM_RENDER);
+
+        Profiler.begin(Profiler.Section.PLAYER_RENDER);
         player.render(batch);
+        Profiler.end(Profiler.Section.PLAYER_RENDER);
 
         batch.end();
 
+        Profiler.begin(Profiler.Section.UI_RENDER);
         gameUI.render(viewport, player, layout, currentRow, currentCol);
+        Profiler.end(Profiler.Section.UI_RENDER);
 
         batch.begin();
         renderCrosshair(batch);
@@ -132,14 +224,62 @@ public class WorldManager {
     public void dispose() {
         disposePlayer();
         disposeRooms();
-        disposeCrosshair();
+        if (roomGeometry != null) {
+            roomGeometry.dispose();
+        }
         restoreSystemCursor();
-        gameUI.dispose();
+        if (gameUI != null) {
+            gameUI.dispose();
+        }
+    }
+
+    public Player detachPlayer() {
+        Player detached = player;
+        player = null;
+        return detached;
     }
 
     public void handleScroll(int amount) {
-        if (amount != 0) {
-            player.switchWeapons(-amount);
+        if (inputReplay == null) {
+            queueScroll(amount);
+        }
+    }
+
+    public void queueScroll(int amount) {
+        pendingScroll += amount;
+    }
+
+    public void clearQueuedInput() {
+        inputManager.clearEvents();
+        pendingScroll = 0;
+    }
+
+    public void setInputRecorder(InputRecorder recorder) {
+        this.inputRecorder = recorder;
+    }
+
+    public void setInputReplay(InputReplay replay) {
+        this.inputReplay = replay;
+    }
+
+    public boolean isReplaying() {
+        return inputReplay != null;
+    }
+
+    private void applyReplayTick() {
+        if (!inputReplay.hasNext()) {
+            Gdx.app.log("WorldManager", "Replay finished after " + inputReplay.getTickCount() + " ticks");
+            inputReplay = null;
+            return;
+        }
+        inputManager.applyState(inputReplay.next(worldMouse));
+        pendingScroll += inputReplay.getScroll();
+    }
+
+    private void applyPendingScroll() {
+        if (pendingScroll != 0) {
+            player.switchWeapons(-pendingScroll);
+            pendingScroll = 0;
         }
     }
 
@@ -147,13 +287,14 @@ public class WorldManager {
         inputManager = new InputManager();
         inputManager.setScrollCallback(this::handleScroll);
         Gdx.input.setInputProcessor(inputManager);
-        crosshair = new Texture("textures/crosshair.png");
+        crosshair = AssetRegistry.getRegion(CROSSHAIR_TEXTURE_PATH);
         Gdx.graphics.setSystemCursor(SystemCursor.None);
     }
 
     private void initializeLevel() {
-        LevelGenerator generator = new LevelGenerator();
-        rooms = generator.generateLevel(layout);
+        if (rooms == null) {
+            rooms = new LevelGenerator().generateLevel(layout);
+        }
 
         for (Room room : rooms) {
             room.setStatistics(statistics);
@@ -167,6 +308,7 @@ public class WorldManager {
         currentRoom = startRoom;
         currentRoom.generateContentIfNeeded();
         currentRoom.activate();
+        queueAdjacentRooms();
     }
 
     private Room findStartRoom() {
@@ -205,6 +347,7 @@ public class WorldManager {
                     spawnPoint.y - player.getBounds().height / 2f);
             player.setStatistics(statistics);
         }
+        player.resetInterpolation();
         updateCameraToCurrentRoom(true);
     }
 
@@ -236,6 +379,10 @@ public class WorldManager {
 
     private void updateCurrentRoom(float delta) {
         currentRoom.update(delta, player);
+        player.releaseSpentBullets(currentRoom);
+
+        AiScheduler ai = currentRoom.getAiScheduler();
+        Profiler.countAi(ai.getNearThinks(), ai.getFarThinks(), ai.getSkipped(), ai.getDeferred());
     }
 
     private boolean checkPlayerDeath() {
@@ -248,6 +395,11 @@ public class WorldManager {
     }
 
     private void transitionToGameOver() {
+        gameOverTriggered = true;
+        if (sceneManager == null) {
+            return;
+        }
+
         restoreSystemCursor();
         sceneManager.setScene(new GameOverScene(sceneManager, statistics));
     }
@@ -265,7 +417,7 @@ public class WorldManager {
 
     private void handleNearDoor(Room.DoorDirection nearDoor, boolean canUseDoor) {
         currentRoom.setActiveDoor(nearDoor, canUseDoor);
-        if (canUseDoor && inputManager.isActionJustPressed(InputAction.USE)) {
+        if (canUseDoor && inputManager.getState().isUsePressed()) {
             useDoor(nearDoor);
         }
     }
@@ -339,16 +491,26 @@ public class WorldManager {
         currentCol = newCol;
         currentRoom.generateContentIfNeeded();
         currentRoom.activate();
+        queueAdjacentRooms();
 
         repositionPlayer(enteredFrom, nextRoom);
     }
 
+    private void queueAdjacentRooms() {
+        roomPrefetcher.clear();
+        for (Room.DoorDirection door : currentRoom.getDoors()) {
+            int[] coords = calculateNewRoomCoordinates(door);
+            roomPrefetcher.enqueue(getRoomAt(coords[0], coords[1]));
+        }
+    }
+
     private void repositionPlayer(Room.DoorDirection enteredFrom, Room nextRoom) {
         Vector2 spawnPos = getPlayerSpawnPosition(enteredFrom, nextRoom);
         player.getPosition().set(spawnPos);
         player.getBounds().setPosition(
                 spawnPos.x - player.getBounds().width / 2f,
                 spawnPos.y - player.getBounds().height / 2f);
+        player.resetInterpolation();
     }
 
     private Room.DoorDirection getOppositeDirection(Room.DoorDirection dir) {
@@ -387,7 +549,7 @@ public class WorldManager {
         }
     }
 
-    private Room getRoomAt(int row, int col) {
+    public Room getRoomAt(int row, int col) {
         if (!isValidRoomCoordinate(row, col)) {
             return null;
         }
@@ -448,12 +610,6 @@ public class WorldManager {
         }
     }
 
-    private void disposeCrosshair() {
-        if (crosshair != null) {
-            crosshair.dispose();
-        }
-    }
-
     private void restoreSystemCursor() {
         try {
             Gdx.graphics.setSystemCursor(SystemCursor.Arrow);
@@ -465,6 +621,26 @@ public class WorldManager {
         return statistics;
     }
 
+    public FixedTimestep getTimestep() {
+        return timestep;
+    }
+
+    public int getCurrentRow() {
+        return currentRow;
+    }
+
+    public int getCurrentCol() {
+        return currentCol;
+    }
+
+    public List<Room> getRooms() {
+        return rooms;
+    }
+
+    public boolean isGameOver() {
+        return gameOverTriggered;
+    }
+
     public Room getCurrentRoom() {
         return currentRoom;
     }
@@ -1,52 +1,36 @@
 package project.roguelike.entities;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Vector2;
-import project.roguelike.core.GameConfig;
+import project.roguelike.core.AssetRegistry;
 
 public class BossEnemy extends Enemy {
-    private static final float VISUAL_SIZE_MULTIPLIER = 2.0f;
-    private static final float COLLISION_WIDTH_MULTIPLIER = 1.2f;
-    private static final float COLLISION_HEIGHT_MULTIPLIER = 1.2f;
-    private static final int BOSS_MAX_HEALTH = 32;
-    private static final float BOSS_SPEED = 140f;
-    private static final int BOSS_DAMAGE = 4;
-    private static final float ATTACK_COOLDOWN = 2f;
-    private static final float ANIMATION_FRAME_DURATION = 0.2f;
-    private static final int ANIMATION_FRAMES = 4;
-
-    private Texture spriteSheet;
+    private static final EnemyArchetype ARCHETYPE = EnemyArchetype.BOSS;
+
     private boolean facingRight = true;
-    private static final float ATTACK_SWING_DURATION = 0.7f;
 
     public BossEnemy(Vector2 spawnPos) {
         super(spawnPos);
-        initializeBossStats();
+        applyArchetype(ARCHETYPE);
         loadAnimations();
     }
 
     @Override
     protected void loadAnimations() {
-        spriteSheet = new Texture(Gdx.files.internal("textures/GoblinOccultist.png"));
-        int frameCount = ANIMATION_FRAMES;
-        int frameW = spriteSheet.getWidth() / frameCount;
-        int frameH = Math.max(1, spriteSheet.getHeight());
-        TextureRegion[][] tmp = TextureRegion.split(spriteSheet, frameW, frameH);
-        TextureRegion[] frames = new TextureRegion[frameCount];
-        for (int i = 0; i < frameCount; i++) {
-            frames[i] = tmp[0][i];
-        }
-        idleAnimation = new Animation<>(ANIMATION_FRAME_DURATION, frames);
-        idleAnimation.setPlayMode(Animation.PlayMode.LOOP);
+        GridPoint2 sheetSize = AssetRegistry.getTextureSize(ARCHETYPE.spriteSheetPath);
+        int frameW = sheetSize.x / EnemyArchetype.ANIMATION_FRAMES;
+        int frameH = Math.max(1, sheetSize.y);
 
-        attackAnimation = new Animation<>(ANIMATION_FRAME_DURATION, frames);
-        attackAnimation.setPlayMode(Animation.PlayMode.NORMAL);
+        idleAnimation = AssetRegistry.getAnimation(ARCHETYPE.spriteSheetPath, frameW, frameH,
+                ARCHETYPE.frameDuration, Animation.PlayMode.LOOP);
+        attackAnimation = AssetRegistry.getAnimation(ARCHETYPE.spriteSheetPath, frameW, frameH,
+                ARCHETYPE.frameDuration, Animation.PlayMode.NORMAL);
 
-        dieAnimation = new Animation<>(ANIMATION_FRAME_DURATION, new TextureRegion[] { frames[0] });
+        TextureRegion[] frames = AssetRegistry.getFrames(ARCHETYPE.spriteSheetPath, frameW, frameH);
+        dieAnimation = new Animation<>(ARCHETYPE.frameDuration, frames[0]);
         dieAnimation.setPlayMode(Animation.PlayMode.NORMAL);
     }
 
@@ -58,10 +42,8 @@ public class BossEnemy extends Enemy {
 
         attackTimer = 0f;
         currentState = State.ATTACK;
-        triggerAttackSwing(ATTACK_SWING_DURATION);
-        if (position.dst(player.getPosition()) <= attackRange + getAttackRangeTolerance()) {
-            player.takeDamage(damage);
-        }
+        triggerAttackSwing(ARCHETYPE.attackSwingDuration);
+        ARCHETYPE.attack(player, position.dst(player.getPosition()), getAttackRangeTolerance());
     }
 
     @Override
@@ -100,27 +82,4 @@ public class BossEnemy extends Enemy {
 
         batch.setColor(1f, 1f, 1f, 1f);
     }
-
-    @Override
-    public void dispose() {
-        if (spriteSheet != null) {
-            spriteSheet.dispose();
-        }
-    }
-
-    private void initializeBossStats() {
-        this.visualSizeMultiplier = VISUAL_SIZE_MULTIPLIER;
-        this.collisionWidthMultiplier = COLLISION_WIDTH_MULTIPLIER;
-        this.collisionHeightMultiplier = COLLISION_HEIGHT_MULTIPLIER;
-        initializeSize();
-
-        this.health = this.maxHealth = BOSS_MAX_HEALTH;
-        this.speed = BOSS_SPEED;
-        this.damage = BOSS_DAMAGE;
-        this.agroRange = GameConfig.ROOM_WIDTH;
-        this.attackRange = GameConfig.TILE_SIZE * 2f;
-        this.attackCooldown = ATTACK_COOLDOWN;
-        this.attackTimer = attackCooldown;
-        this.type = Type.BOSS;
-    }
 }
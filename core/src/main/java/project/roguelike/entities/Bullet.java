@@ -1,35 +1,64 @@
 package project.roguelike.entities;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
+import project.roguelike.core.AssetRegistry;
 import project.roguelike.core.GameConfig;
 import project.roguelike.core.GameStatistics;
 import project.roguelike.rooms.Room;
 
-public class Bullet {
+public class Bullet implements Pool.Poolable {
     private static final float DEFAULT_SPEED = GameConfig.BULLET_SPEED;
     private static final float DEFAULT_DAMAGE = 1f;
     private static final float HALF_SIZE = GameConfig.BULLET_SIZE / 2f;
+    private static final String TEXTURE_PATH = "textures/bullet.png";
 
-    private final Texture texture;
+    private final TextureRegion region;
 
     private final Vector2 position;
+    private final Vector2 previousPosition;
+    private final Vector2 renderPosition;
     private final Vector2 velocity;
     private final Rectangle bounds;
 
     private float speed = DEFAULT_SPEED;
     private float damage = DEFAULT_DAMAGE;
-    private boolean active = true;
+    private boolean active;
 
     private GameStatistics statistics;
 
-    public Bullet(float x, float y, Vector2 direction) {
-        this.texture = new Texture("textures/bullet.png");
-        this.position = new Vector2(x, y);
-        this.velocity = new Vector2(direction).nor();
-        this.bounds = new Rectangle(x - HALF_SIZE, y - HALF_SIZE, GameConfig.BULLET_SIZE, GameConfig.BULLET_SIZE);
+    public Bullet() {
+        this.region = AssetRegistry.getRegion(TEXTURE_PATH);
+        this.position = new Vector2();
+        this.previousPosition = new Vector2();
+        this.renderPosition = new Vector2();
+        this.velocity = new Vector2();
+        this.bounds = new Rectangle(0f, 0f, GameConfig.BULLET_SIZE, GameConfig.BULLET_SIZE);
+    }
+
+    public void init(float x, float y, Vector2 direction) {
+        position.set(x, y);
+        previousPosition.set(x, y);
+        renderPosition.set(x, y);
+        velocity.set(direction).nor();
+        bounds.setPosition(x - HALF_SIZE, y - HALF_SIZE);
+        active = true;
+    }
+
+    @Override
+    public void reset() {
+        position.setZero();
+        previousPosition.setZero();
+        renderPosition.setZero();
+        velocity.setZero();
+        bounds.setPosition(0f, 0f);
+        speed = DEFAULT_SPEED;
+        damage = DEFAULT_DAMAGE;
+        active = false;
+        statistics = null;
     }
 
     public void setStatistics(GameStatistics statistics) {
@@ -41,16 +70,21 @@ public class Bullet {
             return;
         }
 
-        position.add(velocity.cpy().scl(speed * delta));
+        previousPosition.set(position);
+        position.mulAdd(velocity, speed * delta);
         bounds.setPosition(position.x - HALF_SIZE, position.y - HALF_SIZE);
     }
 
+    public void interpolate(float alpha) {
+        renderPosition.set(previousPosition).lerp(position, alpha);
+    }
+
     public void render(SpriteBatch batch) {
         if (!active) {
             return;
         }
 
-        batch.draw(texture, position.x - HALF_SIZE, position.y - HALF_SIZE,
+        batch.draw(region, renderPosition.x - HALF_SIZE, renderPosition.y - HALF_SIZE,
                 GameConfig.BULLET_SIZE, GameConfig.BULLET_SIZE);
     }
 
@@ -66,7 +100,19 @@ public class Bullet {
         }
 
         enemy.takeDamage(damage);
+        registerHit();
+    }
+
+    public void hitCrowd(EnemyCrowd crowd, int handle) {
+        if (!active || crowd == null) {
+            return;
+        }
 
+        crowd.damage(handle, damage);
+        registerHit();
+    }
+
+    private void registerHit() {
         if (statistics != null) {
             statistics.onBulletHit();
             statistics.onDamageDealt((int) damage);
@@ -75,12 +121,6 @@ public class Bullet {
         active = false;
     }
 
-    public void dispose() {
-        if (texture != null) {
-            texture.dispose();
-        }
-    }
-
     private boolean isInBounds(Room room) {
         Vector2 roomPos = room.getPosition();
         return position.x >= roomPos.x &&
@@ -93,6 +133,10 @@ public class Bullet {
         return bounds;
     }
 
+    public Vector2 getPreviousPosition() {
+        return previousPosition;
+    }
+
     public Vector2 getPosition() {
         return position;
     }
@@ -0,0 +1,53 @@
+package project.roguelike.entities;
+
+import com.badlogic.gdx.utils.Pool;
+
+public class BulletPool extends Pool<Bullet> {
+    private static final int DEFAULT_PREALLOCATED = 64;
+    private static final int DEFAULT_MAX_FREE = 1024;
+
+    private int created = 0;
+    private int inUse = 0;
+    private int peakInUse = 0;
+
+    public BulletPool() {
+        this(DEFAULT_PREALLOCATED, DEFAULT_MAX_FREE);
+    }
+
+    public BulletPool(int preallocated, int maxFree) {
+        super(preallocated, maxFree);
+        fill(preallocated);
+    }
+
+    @Override
+    protected Bullet newObject() {
+        created++;
+        return new Bullet();
+    }
+
+    @Override
+    public Bullet obtain() {
+        Bullet bullet = super.obtain();
+        inUse++;
+        peakInUse = Math.max(peakInUse, inUse);
+        return bullet;
+    }
+
+    @Override
+    public void free(Bullet bullet) {
+        super.free(bullet);
+        inUse = Math.max(0, inUse - 1);
+    }
+
+    public int getInUse() {
+        return inUse;
+    }
+
+    public int getPeakInUse() {
+        return peakInUse;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+}
@@ -1,11 +1,12 @@
 package project.roguelike.entities;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import project.roguelike.core.AssetRegistry;
 import project.roguelike.core.GameConfig;
+import project.roguelike.core.GameRandom;
 import project.roguelike.items.Item;
 import project.roguelike.items.ItemFactory;
 import java.util.Random;
@@ -17,6 +18,8 @@ public class Chest {
     private static final float FRAME_DURATION = 0.15f;
     private static final float REMOVE_DELAY = 5f;
     private static final float FADE_DURATION = 2f;
+    private static final String CLOSED_TEXTURE_PATH = "textures/chest_closed.png";
+    private static final String OPEN_TEXTURE_PATH = "textures/chest_open.png";
 
     private final Vector2 position;
     private final Animation<TextureRegion> closedAnimation;
@@ -33,12 +36,10 @@ public class Chest {
 
     public Chest(Vector2 position) {
         this.position = new Vector2(position);
-        Texture closedTexture = new Texture("textures/chest_closed.png");
-        Texture openTexture = new Texture("textures/chest_open.png");
-        TextureRegion[] closedFrames = TextureRegion.split(closedTexture, FRAME_WIDTH, FRAME_HEIGHT)[0];
-        TextureRegion[] openFrames = TextureRegion.split(openTexture, FRAME_WIDTH, FRAME_HEIGHT)[0];
-        closedAnimation = new Animation<>(FRAME_DURATION, closedFrames);
-        openAnimation = new Animation<>(FRAME_DURATION, openFrames);
+        closedAnimation = AssetRegistry.getAnimation(CLOSED_TEXTURE_PATH, FRAME_WIDTH, FRAME_HEIGHT,
+                FRAME_DURATION, Animation.PlayMode.NORMAL);
+        openAnimation = AssetRegistry.getAnimation(OPEN_TEXTURE_PATH, FRAME_WIDTH, FRAME_HEIGHT,
+                FRAME_DURATION, Animation.PlayMode.NORMAL);
     }
 
     public void update(float delta) {
@@ -116,7 +117,7 @@ public class Chest {
     private void spawnDrops() {
         if (roomItemsRef == null)
             return;
-        Random rand = new Random();
+        Random rand = GameRandom.get(GameRandom.Stream.LOOT);
         int dropCount = 1 + rand.nextInt(2);
 
         float centerX = position.x;
@@ -5,14 +5,12 @@ import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
 import project.roguelike.core.GameConfig;
+import project.roguelike.core.GameRandom;
 import project.roguelike.core.SoundManager;
-import project.roguelike.items.Item;
-import project.roguelike.items.ItemFactory;
-import project.roguelike.items.currencyItems.Coin;
-import project.roguelike.items.currencyItems.Key;
 import project.roguelike.rooms.Room;
-import java.util.Random;
+import java.util.List;
 
 public abstract class Enemy {
     private static final float DAMAGE_FLASH_DURATION = 0.2f;
@@ -26,8 +24,16 @@ public abstract class Enemy {
     protected float collisionHeightMultiplier = 0.8f;
 
     protected final Vector2 position;
+    protected final Vector2 previousPosition;
+    protected final Vector2 renderPosition;
     protected final Vector2 velocity;
     protected final Rectangle bounds;
+    private final Vector2 drawPosition = new Vector2();
+    private final Vector2 toPlayer = new Vector2();
+    private final Vector2 steering = new Vector2();
+    private final Vector2 nextPosition = new Vector2();
+    private final Rectangle futureBounds = new Rectangle();
+    private final IntArray neighbours = new IntArray();
     protected float width;
     protected float height;
 
@@ -48,6 +54,8 @@ public abstract class Enemy {
     protected float attackTimer;
 
     protected boolean active = false;
+    private boolean thinking = true;
+    private float lastThinkDistanceSquared = 0f;
     protected boolean dead = false;
     protected boolean dying = false;
     protected float damageFlashTimer = 0f;
@@ -58,6 +66,7 @@ public abstract class Enemy {
 
     protected Room parentRoom;
     protected Type type;
+    protected EnemyArchetype archetype;
 
     public enum Type {
         GOBLIN, ORC, BOSS
@@ -69,6 +78,8 @@ public abstract class Enemy {
 
     protected Enemy(Vector2 spawnPos) {
         this.position = new Vector2(spawnPos);
+        this.previousPosition = new Vector2(spawnPos);
+        this.renderPosition = new Vector2(spawnPos);
         this.velocity = new Vector2();
         this.bounds = new Rectangle();
         this.currentState = State.IDLE;
@@ -84,12 +95,13 @@ public abstract class Enemy {
         }
 
         attackTimer += delta;
-        Vector2 toPlayer = new Vector2(player.getPosition()).sub(position);
-        float distance = toPlayer.len();
+        toPlayer.set(player.getPosition()).sub(position);
+        float distanceSquared = toPlayer.len2();
+        lastThinkDistanceSquared = distanceSquared;
 
-        if (distance > agroRange) {
+        if (distanceSquared > agroRange * agroRange) {
             setIdleState();
-        } else if (distance <= attackRange) {
+        } else if (distanceSquared <= attackRange * attackRange) {
             handleAttackBehavior(player);
         } else {
             handleChaseBehavior(delta, toPlayer);
@@ -136,15 +148,31 @@ public abstract class Enemy {
     }
 
     protected float getAttackRotation(boolean facingRight, float maxAngleDegrees) {
-        if (attackSwingTime <= 0f || attackSwingDuration <= 0f)
+        return attackRotation(attackSwingTime, attackSwingDuration, facingRight, maxAngleDegrees);
+    }
+
+    static float attackRotation(float swingTime, float swingDuration, boolean facingRight, float maxAngleDegrees) {
+        if (swingTime <= 0f || swingDuration <= 0f)
             return 0f;
-        float t = Math.min(1f, attackSwingTime / attackSwingDuration);
+        float t = Math.min(1f, swingTime / swingDuration);
         float phase = (float) (Math.sin(Math.PI * t) * (2f * t - 1f));
         return phase * maxAngleDegrees * (facingRight ? -1f : 1f);
     }
 
+    private void coast(float delta) {
+        if (velocity.isZero()) {
+            return;
+        }
+        Vector2 nextPos = calculateNextPosition(delta);
+        avoidCollisions(nextPos);
+        clampToRoomBounds(nextPos);
+        position.set(nextPos);
+    }
+
     protected void moveTowardsPlayer(Vector2 toPlayer) {
-        if (Math.abs(toPlayer.x) > Math.abs(toPlayer.y)) {
+        if (parentRoom != null && parentRoom.getFlowField().getDirection(position.x, position.y, steering)) {
+            velocity.set(steering).scl(speed);
+        } else if (Math.abs(toPlayer.x) > Math.abs(toPlayer.y)) {
             velocity.set(Math.signum(toPlayer.x) * speed, 0);
         } else {
             velocity.set(0, Math.signum(toPlayer.y) * speed);
@@ -154,7 +182,7 @@ public abstract class Enemy {
     }
 
     protected Vector2 calculateNextPosition(float delta) {
-        return position.cpy().add(velocity.cpy().scl(delta));
+        return nextPosition.set(position).mulAdd(velocity, delta);
     }
 
     protected void avoidCollisions(Vector2 nextPos) {
@@ -162,22 +190,40 @@ public abstract class Enemy {
             return;
         }
 
-        Rectangle futureBounds = new Rectangle(
+        futureBounds.set(
                 nextPos.x - bounds.width / 2f,
                 nextPos.y - bounds.height / 2f,
                 bounds.width, bounds.height);
 
-        Vector2 totalPush = new Vector2();
-        for (Enemy other : parentRoom.getEnemies()) {
-            if (other != this && other.isActive() && !other.isDead()) {
-                if (futureBounds.overlaps(other.getBounds())) {
-                    Vector2 pushDir = new Vector2(nextPos).sub(other.getPosition()).nor();
-                    totalPush.add(pushDir);
+        List<Enemy> enemies = parentRoom.getEnemies();
+        parentRoom.queryNearbyEnemies(futureBounds, neighbours);
+
+        float pushX = 0f;
+        float pushY = 0f;
+        for (int i = 0; i < neighbours.size; i++) {
+            int index = neighbours.get(i);
+            if (index >= enemies.size()) {
+                continue;
+            }
+
+            Enemy other = enemies.get(index);
+            if (other == this || !other.isActive() || other.isDead()) {
+                continue;
+            }
+
+            if (futureBounds.overlaps(other.getBounds())) {
+                float dx = nextPos.x - other.getPosition().x;
+                float dy = nextPos.y - other.getPosition().y;
+                float length = (float) Math.sqrt(dx * dx + dy * dy);
+                if (length != 0f) {
+                    pushX += dx / length;
+                    pushY += dy / length;
                 }
             }
         }
 
-        nextPos.add(totalPush.scl(getCollisionPushStrength()));
+        float strength = getCollisionPushStrength();
+        nextPos.add(pushX * strength, pushY * strength);
     }
 
     protected void clampToRoomBounds(Vector2 nextPos) {
@@ -218,6 +264,23 @@ public abstract class Enemy {
                 position.y - collisionHeight / 2f);
     }
 
+    protected void applyArchetype(EnemyArchetype archetype) {
+        this.visualSizeMultiplier = archetype.visualSizeMultiplier;
+        this.collisionWidthMultiplier = archetype.collisionWidthMultiplier;
+        this.collisionHeightMultiplier = archetype.collisionHeightMultiplier;
+        initializeSize();
+
+        this.health = this.maxHealth = archetype.maxHealth;
+        this.speed = archetype.speed;
+        this.damage = archetype.damage;
+        this.agroRange = archetype.agroRange;
+        this.attackRange = archetype.attackRange;
+        this.attackCooldown = archetype.attackCooldown;
+        this.attackTimer = attackCooldown;
+        this.type = archetype.type;
+        this.archetype = archetype;
+    }
+
     protected void updateBoundsPosition() {
         bounds.setPosition(
                 position.x - bounds.width / 2f,
@@ -225,6 +288,7 @@ public abstract class Enemy {
     }
 
     public void update(float delta, Player player) {
+        previousPosition.set(position);
         if (!active || dead) {
             return;
         }
@@ -238,7 +302,12 @@ public abstract class Enemy {
 
         stateTime += delta;
         updateAttackSwing(delta);
-        updateAI(delta, player);
+        if (thinking) {
+            updateAI(delta, player);
+        } else {
+            attackTimer += delta;
+            coast(delta);
+        }
         updateBoundsPosition();
     }
 
@@ -315,38 +384,8 @@ public abstract class Enemy {
         stateTime = 0;
         deathTimer = 0;
 
-        if (parentRoom != null) {
-            Random rand = new Random();
-            Vector2 dropPos = new Vector2(position);
-
-            switch (type) {
-                case GOBLIN:
-                    parentRoom.getItems().add(new Coin(dropPos, 1));
-                    break;
-                case ORC:
-                    if (rand.nextFloat() < 0.8f) {
-                        parentRoom.getItems().add(new Coin(dropPos, 1));
-                        parentRoom.getItems().add(new Coin(dropPos, 1));
-                    } else {
-                        parentRoom.getItems().add(new Key(dropPos, 1));
-                    }
-                    break;
-                case BOSS:
-                    for (int i = 0; i < 5; i++) {
-                        parentRoom.getItems().add(new Coin(dropPos, 1));
-                    }
-                    parentRoom.getItems().add(new Key(dropPos, 1));
-                    if (rand.nextFloat() < 0.5f) {
-                        Item randomItem = ItemFactory.createRandomItem(dropPos);
-                        if (randomItem != null) {
-                            parentRoom.getItems().add(randomItem);
-                        }
-                    }
-                    if (rand.nextFloat() < 0.4f) {
-                        parentRoom.addChest(new project.roguelike.entities.Chest(dropPos.cpy()));
-                    }
-                    break;
-            }
+        if (parentRoom != null && archetype != null) {
+            archetype.dropLoot(parentRoom, new Vector2(position), GameRandom.get(GameRandom.Stream.LOOT));
         }
 
         SoundManager.playEnemyDeath();
@@ -368,16 +407,36 @@ public abstract class Enemy {
     public void dispose() {
     }
 
+    public void interpolate(float alpha) {
+        renderPosition.set(previousPosition).lerp(position, alpha);
+    }
+
     protected Vector2 getDrawPosition() {
-        return new Vector2(
-                position.x - width / 2f,
-                position.y - height / 2f);
+        return drawPosition.set(
+                renderPosition.x - width / 2f,
+                renderPosition.y - height / 2f);
+    }
+
+    public void setThinking(boolean thinking) {
+        this.thinking = thinking;
+    }
+
+    public float getAgroRange() {
+        return agroRange;
+    }
+
+    public float getLastThinkDistanceSquared() {
+        return lastThinkDistanceSquared;
     }
 
     public boolean isDead() {
         return dead;
     }
 
+    public boolean isDying() {
+        return dying;
+    }
+
     public boolean isActive() {
         return active;
     }
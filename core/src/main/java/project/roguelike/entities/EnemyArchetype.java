@@ -0,0 +1,108 @@
+package project.roguelike.entities;
+
+import com.badlogic.gdx.math.Vector2;
+import java.util.Random;
+import project.roguelike.core.GameConfig;
+import project.roguelike.items.Item;
+import project.roguelike.items.ItemFactory;
+import project.roguelike.items.currencyItems.Coin;
+import project.roguelike.items.currencyItems.Key;
+import project.roguelike.rooms.Room;
+
+public enum EnemyArchetype {
+    GOBLIN(Enemy.Type.GOBLIN, "textures/GoblinWolfRider.png", 0.15f, 0.5f,
+            1.0f, 1f, 1f, 6, 200f, 1, 1.0f,
+            GameConfig.ROOM_WIDTH / 1.5f, GameConfig.TILE_SIZE * 0.7f) {
+        @Override
+        public void dropLoot(Room room, Vector2 dropPos, Random rand) {
+            room.getItems().add(new Coin(dropPos, 1));
+        }
+    },
+    ORC(Enemy.Type.ORC, "textures/GoblinFighter.png", 0.2f, 0.6f,
+            1.5f, 1.25f, 1.25f, 16, 180f, 2, 2f,
+            GameConfig.ROOM_WIDTH / 1.5f, GameConfig.TILE_SIZE * 1.5f * 0.7f) {
+        @Override
+        public void dropLoot(Room room, Vector2 dropPos, Random rand) {
+            if (rand.nextFloat() < 0.8f) {
+                room.getItems().add(new Coin(dropPos, 1));
+                room.getItems().add(new Coin(dropPos, 1));
+            } else {
+                room.getItems().add(new Key(dropPos, 1));
+            }
+        }
+    },
+    BOSS(Enemy.Type.BOSS, "textures/GoblinOccultist.png", 0.2f, 0.7f,
+            2.0f, 1.2f, 1.2f, 32, 140f, 4, 2f,
+            GameConfig.ROOM_WIDTH, GameConfig.TILE_SIZE * 2f) {
+        @Override
+        public void dropLoot(Room room, Vector2 dropPos, Random rand) {
+            for (int i = 0; i < 5; i++) {
+                room.getItems().add(new Coin(dropPos, 1));
+            }
+            room.getItems().add(new Key(dropPos, 1));
+            if (rand.nextFloat() < 0.5f) {
+                Item randomItem = ItemFactory.createRandomItem(dropPos);
+                if (randomItem != null) {
+                    room.getItems().add(randomItem);
+                }
+            }
+            if (rand.nextFloat() < 0.4f) {
+                room.addChest(new Chest(dropPos.cpy()));
+            }
+        }
+    };
+
+    public static final int ANIMATION_FRAMES = 4;
+
+    public final Enemy.Type type;
+    public final String spriteSheetPath;
+    public final float frameDuration;
+    public final float attackSwingDuration;
+    public final float visualSizeMultiplier;
+    public final float collisionWidthMultiplier;
+    public final float collisionHeightMultiplier;
+    public final int maxHealth;
+    public final float speed;
+    public final int damage;
+    public final float attackCooldown;
+    public final float agroRange;
+    public final float attackRange;
+
+    EnemyArchetype(Enemy.Type type, String spriteSheetPath, float frameDuration, float attackSwingDuration,
+            float visualSizeMultiplier, float collisionWidthMultiplier, float collisionHeightMultiplier,
+            int maxHealth, float speed, int damage, float attackCooldown, float agroRange, float attackRange) {
+        this.type = type;
+        this.spriteSheetPath = spriteSheetPath;
+        this.frameDuration = frameDuration;
+        this.attackSwingDuration = attackSwingDuration;
+        this.visualSizeMultiplier = visualSizeMultiplier;
+        this.collisionWidthMultiplier = collisionWidthMultiplier;
+        this.collisionHeightMultiplier = collisionHeightMultiplier;
+        this.maxHealth = maxHealth;
+        this.speed = speed;
+        this.damage = damage;
+        this.attackCooldown = attackCooldown;
+        this.agroRange = agroRange;
+        this.attackRange = attackRange;
+    }
+
+    public abstract void dropLoot(Room room, Vector2 dropPos, Random rand);
+
+    public void attack(Player player, float distance, float tolerance) {
+        if (distance <= attackRange + tolerance) {
+            player.takeDamage(damage);
+        }
+    }
+
+    public float getVisualSize() {
+        return visualSizeMultiplier * GameConfig.TILE_SIZE;
+    }
+
+    public float getCollisionWidth() {
+        return collisionWidthMultiplier * GameConfig.TILE_SIZE;
+    }
+
+    public float getCollisionHeight() {
+        return collisionHeightMultiplier * GameConfig.TILE_SIZE;
+    }
+}
@@ -0,0 +1,515 @@
+package project.roguelike.entities;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Vector2;
+import java.util.Arrays;
+import project.roguelike.core.AssetRegistry;
+import project.roguelike.core.GameConfig;
+import project.roguelike.core.GameRandom;
+import project.roguelike.core.GameStatistics;
+import project.roguelike.core.SoundManager;
+import project.roguelike.rooms.FlowField;
+import project.roguelike.rooms.Room;
+import project.roguelike.rooms.SegmentSweep;
+
+public class EnemyCrowd {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final float DAMAGE_FLASH_DURATION = 0.2f;
+    private static final float DEATH_ROTATION_DURATION = 1f;
+    private static final float MAX_DEATH_ROTATION = 90f;
+    private static final float ATTACK_SWING_ANGLE = 45f;
+    private static final int MAX_SEPARATION_NEIGHBOURS = 8;
+    private static final int BLOCK_SHIFT = 24;
+    private static final int INDEX_MASK = (1 << BLOCK_SHIFT) - 1;
+
+    private static final byte FACING_LEFT = 1;
+    private static final byte DYING = 2;
+
+    private final Room room;
+    private final Block[] blocks;
+    private final float originX;
+    private final float originY;
+    private final float cellSize;
+    private final int cols;
+    private final int rows;
+    private final int[] cellStart;
+    private final int[] cellCursor;
+    private final float queryMargin;
+    private final Vector2 steering = new Vector2();
+
+    private int[] cellItems = new int[INITIAL_CAPACITY];
+    private int[] itemHandles = new int[INITIAL_CAPACITY];
+    private int[] itemCells = new int[INITIAL_CAPACITY];
+    private int aliveCount = 0;
+    private int killedCount = 0;
+    private float alpha = 1f;
+    private float lastHitTime = SegmentSweep.NO_HIT;
+
+    private static class Block {
+        final EnemyArchetype archetype;
+        final float size;
+        final float halfWidth;
+        final float halfHeight;
+        int count;
+
+        float[] x;
+        float[] y;
+        float[] previousX;
+        float[] previousY;
+        float[] velocityX;
+        float[] velocityY;
+        float[] attackTimer;
+        float[] swingTime;
+        float[] flashTimer;
+        float[] deathTimer;
+        float[] stateTime;
+        float[] health;
+        byte[] flags;
+
+        Animation<TextureRegion> animation;
+
+        Block(EnemyArchetype archetype) {
+            this.archetype = archetype;
+            this.size = archetype.getVisualSize();
+            this.halfWidth = archetype.getCollisionWidth() / 2f;
+            this.halfHeight = archetype.getCollisionHeight() / 2f;
+            resize(INITIAL_CAPACITY);
+        }
+
+        int add(float spawnX, float spawnY) {
+            if (count == x.length) {
+                resize(count * 2);
+            }
+
+            int i = count++;
+            x[i] = previousX[i] = spawnX;
+            y[i] = previousY[i] = spawnY;
+            velocityX[i] = velocityY[i] = 0f;
+            attackTimer[i] = archetype.attackCooldown;
+            swingTime[i] = archetype.attackSwingDuration;
+            flashTimer[i] = deathTimer[i] = stateTime[i] = 0f;
+            health[i] = archetype.maxHealth;
+            flags[i] = 0;
+            return i;
+        }
+
+        void remove(int i) {
+            int last = --count;
+            x[i] = x[last];
+            y[i] = y[last];
+            previousX[i] = previousX[last];
+            previousY[i] = previousY[last];
+            velocityX[i] = velocityX[last];
+            velocityY[i] = velocityY[last];
+            attackTimer[i] = attackTimer[last];
+            swingTime[i] = swingTime[last];
+            flashTimer[i] = flashTimer[last];
+            deathTimer[i] = deathTimer[last];
+            stateTime[i] = stateTime[last];
+            health[i] = health[last];
+            flags[i] = flags[last];
+        }
+
+        private void resize(int capacity) {
+            x = copy(x, capacity);
+            y = copy(y, capacity);
+            previousX = copy(previousX, capacity);
+            previousY = copy(previousY, capacity);
+            velocityX = copy(velocityX, capacity);
+            velocityY = copy(velocityY, capacity);
+            attackTimer = copy(attackTimer, capacity);
+            swingTime = copy(swingTime, capacity);
+            flashTimer = copy(flashTimer, capacity);
+            deathTimer = copy(deathTimer, capacity);
+            stateTime = copy(stateTime, capacity);
+            health = copy(health, capacity);
+            flags = flags == null ? new byte[capacity] : Arrays.copyOf(flags, capacity);
+        }
+
+        private static float[] copy(float[] array, int capacity) {
+            return array == null ? new float[capacity] : Arrays.copyOf(array, capacity);
+        }
+    }
+
+    public EnemyCrowd(Room room) {
+        this.room = room;
+
+        EnemyArchetype[] archetypes = EnemyArchetype.values();
+        this.blocks = new Block[archetypes.length];
+        float maxHalfExtent = 0f;
+        for (int i = 0; i < archetypes.length; i++) {
+            blocks[i] = new Block(archetypes[i]);
+            maxHalfExtent = Math.max(maxHalfExtent, Math.max(blocks[i].halfWidth, blocks[i].halfHeight));
+        }
+        this.queryMargin = maxHalfExtent;
+
+        this.originX = room.getPosition().x;
+        this.originY = room.getPosition().y;
+        this.cellSize = GameConfig.TILE_SIZE;
+        this.cols = Math.max(1, (int) (GameConfig.ROOM_WIDTH / cellSize));
+        this.rows = Math.max(1, (int) (GameConfig.ROOM_HEIGHT / cellSize));
+        this.cellStart = new int[cols * rows + 1];
+        this.cellCursor = new int[cols * rows];
+    }
+
+    public void spawn(EnemyArchetype archetype, float x, float y) {
+        blocks[archetype.ordinal()].add(x, y);
+        aliveCount++;
+    }
+
+    public void update(float delta, Player player) {
+        FlowField flowField = room.getFlowField();
+        for (Block block : blocks) {
+            updateBlock(block, delta, player, flowField);
+        }
+        rebuildIndex();
+        for (Block block : blocks) {
+            separateBlock(block);
+        }
+        rebuildIndex();
+    }
+
+    public void interpolate(float alpha) {
+        this.alpha = alpha;
+    }
+
+    public void render(SpriteBatch batch) {
+        if (AssetRegistry.isHeadless()) {
+            return;
+        }
+
+        for (Block block : blocks) {
+            if (block.count > 0) {
+                renderBlock(batch, block);
+            }
+        }
+    }
+
+    public int findFirstHit(Vector2 from, Vector2 to, float halfWidth, float halfHeight) {
+        float marginX = queryMargin + halfWidth;
+        float marginY = queryMargin + halfHeight;
+        int fromCol = toCol(Math.min(from.x, to.x) - marginX);
+        int toCol = toCol(Math.max(from.x, to.x) + marginX);
+        int fromRow = toRow(Math.min(from.y, to.y) - marginY);
+        int toRow = toRow(Math.max(from.y, to.y) + marginY);
+
+        int hit = -1;
+        float hitTime = Float.MAX_VALUE;
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int col = fromCol; col <= toCol; col++) {
+                int cell = row * cols + col;
+                for (int item = cellStart[cell]; item < cellStart[cell + 1]; item++) {
+                    int handle = cellItems[item];
+                    float time = entryTime(handle, from, to, halfWidth, halfHeight);
+                    if (time != SegmentSweep.NO_HIT && time < hitTime) {
+                        hitTime = time;
+                        hit = handle;
+                    }
+                }
+            }
+        }
+
+        lastHitTime = hit >= 0 ? hitTime : SegmentSweep.NO_HIT;
+        return hit;
+    }
+
+    public float getLastHitTime() {
+        return lastHitTime;
+    }
+
+    public void damage(int handle, float amount) {
+        Block block = blocks[handle >>> BLOCK_SHIFT];
+        int i = handle & INDEX_MASK;
+        if (i >= block.count || (block.flags[i] & DYING) != 0) {
+            return;
+        }
+
+        block.health[i] -= amount;
+        block.flashTimer[i] = DAMAGE_FLASH_DURATION;
+        SoundManager.playEnemyHit();
+
+        GameStatistics statistics = room.getStatistics();
+        if (statistics != null) {
+            statistics.onDamageDealt((int) amount);
+        }
+
+        if (block.health[i] <= 0f) {
+            block.flags[i] |= DYING;
+            block.deathTimer[i] = 0f;
+            block.velocityX[i] = block.velocityY[i] = 0f;
+            aliveCount--;
+            killedCount++;
+            block.archetype.dropLoot(room, new Vector2(block.x[i], block.y[i]),
+                    GameRandom.get(GameRandom.Stream.LOOT));
+            SoundManager.playEnemyDeath();
+            if (statistics != null) {
+                statistics.onEnemyKilled();
+            }
+        }
+    }
+
+    public int getCount() {
+        int count = 0;
+        for (Block block : blocks) {
+            count += block.count;
+        }
+        return count;
+    }
+
+    public int getCount(EnemyArchetype archetype) {
+        return blocks[archetype.ordinal()].count;
+    }
+
+    public int getAliveCount() {
+        return aliveCount;
+    }
+
+    public int getKilledCount() {
+        return killedCount;
+    }
+
+    private void updateBlock(Block block, float delta, Player player, FlowField flowField) {
+        EnemyArchetype archetype = block.archetype;
+        float agroRangeSquared = archetype.agroRange * archetype.agroRange;
+        float attackRangeSquared = archetype.attackRange * archetype.attackRange;
+        float swingDuration = archetype.attackSwingDuration;
+        float speed = archetype.speed;
+        float cooldown = archetype.attackCooldown;
+
+        float minX = originX + block.halfWidth;
+        float maxX = originX + GameConfig.ROOM_WIDTH - block.halfWidth;
+        float minY = originY + block.halfHeight;
+        float maxY = originY + GameConfig.ROOM_HEIGHT - block.halfHeight;
+
+        boolean hasTarget = player != null;
+        float targetX = hasTarget ? player.getPosition().x : 0f;
+        float targetY = hasTarget ? player.getPosition().y : 0f;
+
+        float[] x = block.x;
+        float[] y = block.y;
+        float[] velocityX = block.velocityX;
+        float[] velocityY = block.velocityY;
+        float[] attackTimer = block.attackTimer;
+        byte[] flags = block.flags;
+
+        for (int i = 0; i < block.count; i++) {
+            block.previousX[i] = x[i];
+            block.previousY[i] = y[i];
+            if (block.flashTimer[i] > 0f) {
+                block.flashTimer[i] -= delta;
+            }
+
+            if ((flags[i] & DYING) != 0) {
+                block.deathTimer[i] += delta;
+                if (block.deathTimer[i] >= DEATH_ROTATION_DURATION) {
+                    block.remove(i);
+                    i--;
+                }
+                continue;
+            }
+
+            block.stateTime[i] += delta;
+            if (block.swingTime[i] < swingDuration) {
+                block.swingTime[i] = Math.min(swingDuration, block.swingTime[i] + delta);
+            }
+            attackTimer[i] += delta;
+            if (!hasTarget) {
+                continue;
+            }
+
+            float dx = targetX - x[i];
+            float dy = targetY - y[i];
+            float distanceSquared = dx * dx + dy * dy;
+
+            if (distanceSquared > agroRangeSquared || attackTimer[i] < cooldown) {
+                velocityX[i] = velocityY[i] = 0f;
+                continue;
+            }
+
+            if (distanceSquared <= attackRangeSquared) {
+                velocityX[i] = velocityY[i] = 0f;
+                attackTimer[i] = 0f;
+                block.swingTime[i] = 0f;
+                archetype.attack(player, (float) Math.sqrt(distanceSquared), Enemy.DEFAULT_ATTACK_RANGE_TOLERANCE);
+                continue;
+            }
+
+            if (flowField.getDirection(x[i], y[i], steering)) {
+                velocityX[i] = steering.x * speed;
+                velocityY[i] = steering.y * speed;
+            } else if (Math.abs(dx) > Math.abs(dy)) {
+                velocityX[i] = Math.signum(dx) * speed;
+                velocityY[i] = 0f;
+            } else {
+                velocityX[i] = 0f;
+                velocityY[i] = Math.signum(dy) * speed;
+            }
+
+            x[i] = Math.max(minX, Math.min(maxX, x[i] + velocityX[i] * delta));
+            y[i] = Math.max(minY, Math.min(maxY, y[i] + velocityY[i] * delta));
+            flags[i] = (byte) (velocityX[i] < 0f ? flags[i] | FACING_LEFT : flags[i] & ~FACING_LEFT);
+        }
+    }
+
+    private void separateBlock(Block block) {
+        float minX = originX + block.halfWidth;
+        float maxX = originX + GameConfig.ROOM_WIDTH - block.halfWidth;
+        float minY = originY + block.halfHeight;
+        float maxY = originY + GameConfig.ROOM_HEIGHT - block.halfHeight;
+        int self = block.archetype.ordinal() << BLOCK_SHIFT;
+
+        float[] x = block.x;
+        float[] y = block.y;
+        for (int i = 0; i < block.count; i++) {
+            if ((block.flags[i] & DYING) != 0) {
+                continue;
+            }
+
+            int fromCol = toCol(x[i] - block.halfWidth - queryMargin);
+            int toCol = toCol(x[i] + block.halfWidth + queryMargin);
+            int fromRow = toRow(y[i] - block.halfHeight - queryMargin);
+            int toRow = toRow(y[i] + block.halfHeight + queryMargin);
+
+            float pushX = 0f;
+            float pushY = 0f;
+            int neighbours = 0;
+            for (int row = fromRow; row <= toRow && neighbours < MAX_SEPARATION_NEIGHBOURS; row++) {
+                for (int col = fromCol; col <= toCol && neighbours < MAX_SEPARATION_NEIGHBOURS; col++) {
+                    int cell = row * cols + col;
+                    int end = cellStart[cell + 1];
+                    for (int item = cellStart[cell]; item < end && neighbours < MAX_SEPARATION_NEIGHBOURS; item++) {
+                        int handle = cellItems[item];
+                        if (handle == (self | i)) {
+                            continue;
+                        }
+
+                        Block other = blocks[handle >>> BLOCK_SHIFT];
+                        int j = handle & INDEX_MASK;
+                        float dx = x[i] - other.x[j];
+                        float dy = y[i] - other.y[j];
+                        if (Math.abs(dx) >= block.halfWidth + other.halfWidth
+                                || Math.abs(dy) >= block.halfHeight + other.halfHeight) {
+                            continue;
+                        }
+
+                        float length = (float) Math.sqrt(dx * dx + dy * dy);
+                        if (length != 0f) {
+                            pushX += dx / length;
+                            pushY += dy / length;
+                        }
+                        neighbours++;
+                    }
+                }
+            }
+
+            x[i] = Math.max(minX, Math.min(maxX, x[i] + pushX * Enemy.DEFAULT_COLLISION_PUSH_STRENGTH));
+            y[i] = Math.max(minY, Math.min(maxY, y[i] + pushY * Enemy.DEFAULT_COLLISION_PUSH_STRENGTH));
+        }
+    }
+
+    private void rebuildIndex() {
+        int capacity = aliveCount;
+        if (capacity > itemHandles.length) {
+            int size = Math.max(capacity, itemHandles.length * 2);
+            itemHandles = new int[size];
+            itemCells = new int[size];
+            cellItems = new int[size];
+        }
+
+        Arrays.fill(cellStart, 0);
+        int items = 0;
+        for (int b = 0; b < blocks.length; b++) {
+            Block block = blocks[b];
+            for (int i = 0; i < block.count; i++) {
+                if ((block.flags[i] & DYING) != 0) {
+                    continue;
+                }
+                int cell = toRow(block.y[i]) * cols + toCol(block.x[i]);
+                itemHandles[items] = (b << BLOCK_SHIFT) | i;
+                itemCells[items] = cell;
+                cellStart[cell + 1]++;
+                items++;
+            }
+        }
+
+        for (int cell = 0; cell < cellCursor.length; cell++) {
+            cellStart[cell + 1] += cellStart[cell];
+            cellCursor[cell] = cellStart[cell];
+        }
+
+        for (int item = 0; item < items; item++) {
+            cellItems[cellCursor[itemCells[item]]++] = itemHandles[item];
+        }
+    }
+
+    private float entryTime(int handle, Vector2 from, Vector2 to, float halfWidth, float halfHeight) {
+        Block block = blocks[handle >>> BLOCK_SHIFT];
+        int i = handle & INDEX_MASK;
+        if ((block.flags[i] & DYING) != 0) {
+            return SegmentSweep.NO_HIT;
+        }
+
+        float extentX = block.halfWidth + halfWidth;
+        float extentY = block.halfHeight + halfHeight;
+        return SegmentSweep.entryTime(from.x, from.y, to.x, to.y,
+                block.x[i] - extentX, block.y[i] - extentY, block.x[i] + extentX, block.y[i] + extentY);
+    }
+
+    private void renderBlock(SpriteBatch batch, Block block) {
+        Animation<TextureRegion> animation = getAnimation(block);
+        float size = block.size;
+        float half = size / 2f;
+
+        for (int i = 0; i < block.count; i++) {
+            float x = block.previousX[i] + (block.x[i] - block.previousX[i]) * alpha;
+            float y = block.previousY[i] + (block.y[i] - block.previousY[i]) * alpha;
+            boolean dying = (block.flags[i] & DYING) != 0;
+            boolean tinted = dying || block.flashTimer[i] > 0f;
+
+            if (tinted) {
+                batch.setColor(1f, 0f, 0f, 1f);
+            }
+
+            TextureRegion frame = animation.getKeyFrame(block.stateTime[i], true);
+            if (dying) {
+                float rotation = Math.min(MAX_DEATH_ROTATION,
+                        block.deathTimer[i] / DEATH_ROTATION_DURATION * MAX_DEATH_ROTATION);
+                batch.draw(frame, x - half, y - half, half, half, size, size, 1f, 1f, rotation);
+            } else {
+                boolean facingRight = (block.flags[i] & FACING_LEFT) == 0;
+                float rotation = Enemy.attackRotation(block.swingTime[i], block.archetype.attackSwingDuration,
+                        facingRight, ATTACK_SWING_ANGLE);
+                batch.draw(frame, x - half, y - half, half, half, size, size, facingRight ? 1f : -1f, 1f, rotation);
+            }
+
+            if (tinted) {
+                batch.setColor(1f, 1f, 1f, 1f);
+            }
+        }
+    }
+
+    private Animation<TextureRegion> getAnimation(Block block) {
+        if (block.animation == null) {
+            String path = block.archetype.spriteSheetPath;
+            GridPoint2 sheetSize = AssetRegistry.getTextureSize(path);
+            int frameWidth = sheetSize.x / EnemyArchetype.ANIMATION_FRAMES;
+            int frameHeight = Math.max(1, sheetSize.y);
+            block.animation = AssetRegistry.getAnimation(path, frameWidth, frameHeight,
+                    block.archetype.frameDuration, Animation.PlayMode.LOOP);
+        }
+        return block.animation;
+    }
+
+    private int toCol(float x) {
+        int col = (int) Math.floor((x - originX) / cellSize);
+        return Math.max(0, Math.min(cols - 1, col));
+    }
+
+    private int toRow(float y) {
+        int row = (int) Math.floor((y - originY) / cellSize);
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+}
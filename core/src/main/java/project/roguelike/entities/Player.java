@@ -1,11 +1,11 @@
 package project.roguelike.entities;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import project.roguelike.core.AssetRegistry;
 import project.roguelike.core.GameConfig;
 import project.roguelike.core.GameStatistics;
 import project.roguelike.core.InputManager;
@@ -22,7 +22,6 @@ import project.roguelike.rooms.Room;
 import project.roguelike.rooms.ShopRoom;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 public class Player {
@@ -31,14 +30,17 @@ public class Player {
     private static final float DEATH_ROTATION_SPEED = 180f;
     private static final int BASE_MAX_HEALTH = 10;
     private static final float BASE_SPEED = 400f;
+    private static final String SPRITE_SHEET_PATH = "textures/player_spritesheet.png";
+    private static final int FRAME_SIZE = 32;
 
-    private final Texture spriteSheet;
     private final TextureRegion[] frames;
     private final TextureRegion[] framesFlipped;
     private float stateTime = 0f;
     private boolean facingLeft = false;
 
     private final Vector2 position;
+    private final Vector2 previousPosition;
+    private final Vector2 renderPosition;
     private final Rectangle bounds;
     private float currentSpeed = BASE_SPEED;
 
@@ -66,25 +68,21 @@ public class Player {
     private int coins = 0;
 
     private final List<Bullet> bullets = new ArrayList<>();
+    private final BulletPool bulletPool = new BulletPool();
 
     private GameStatistics statistics;
 
     private final Vector2 tmpMouse = new Vector2();
+    private final Vector2 tmpMuzzle = new Vector2();
+    private final Vector2 tmpShootDir = new Vector2();
 
     public Player(float x, float y, float width, float height) {
-        this.spriteSheet = new Texture("textures/player_spritesheet.png");
-        TextureRegion[][] tmp = TextureRegion.split(spriteSheet, 32, 32);
-        int frameCount = tmp[0].length;
-
-        this.frames = new TextureRegion[frameCount];
-        this.framesFlipped = new TextureRegion[frameCount];
-        for (int i = 0; i < frameCount; i++) {
-            frames[i] = tmp[0][i];
-            framesFlipped[i] = new TextureRegion(frames[i]);
-            framesFlipped[i].flip(true, false);
-        }
+        this.frames = AssetRegistry.getFrames(SPRITE_SHEET_PATH, FRAME_SIZE, FRAME_SIZE);
+        this.framesFlipped = AssetRegistry.getFlippedFrames(SPRITE_SHEET_PATH, FRAME_SIZE, FRAME_SIZE);
 
         this.position = new Vector2(x, y);
+        this.previousPosition = new Vector2(x, y);
+        this.renderPosition = new Vector2(x, y);
         this.bounds = new Rectangle(x - width / 2f, y - height / 2f, width, height);
     }
 
@@ -93,6 +91,7 @@ public class Player {
     }
 
     public void update(float delta, Room currentRoom, Viewport viewport, Vector2 worldMouse, InputManager input) {
+        previousPosition.set(position);
         stateTime += delta;
 
         if (isDead) {
@@ -106,13 +105,25 @@ public class Player {
         updateMouseTracking(worldMouse);
         updateWeapon(delta, worldMouse, state);
         updateActiveItems(delta, state);
-        updateBullets(delta, currentRoom);
+        updateBullets(delta);
         updateDamageFlash(delta);
         handleItemPickup(currentRoom, state);
         handleChestOpen(currentRoom, state);
         tryUseHatch(currentRoom, state);
     }
 
+    public void interpolate(float alpha) {
+        renderPosition.set(previousPosition).lerp(position, alpha);
+        for (int i = 0; i < bullets.size(); i++) {
+            bullets.get(i).interpolate(alpha);
+        }
+    }
+
+    public void resetInterpolation() {
+        previousPosition.set(position);
+        renderPosition.set(position);
+    }
+
     public void render(SpriteBatch batch) {
         TextureRegion region = getCurrentFrame();
 
@@ -122,8 +133,8 @@ public class Player {
 
         batch.draw(
                 region,
-                position.x - bounds.width / 2f,
-                position.y - bounds.height / 2f,
+                renderPosition.x - bounds.width / 2f,
+                renderPosition.y - bounds.height / 2f,
                 bounds.width / 2f,
                 bounds.height / 2f,
                 bounds.width,
@@ -256,13 +267,11 @@ public class Player {
     }
 
     public void dispose() {
-        if (spriteSheet != null) {
-            spriteSheet.dispose();
-        }
-
         for (Bullet bullet : bullets) {
-            bullet.dispose();
+            bulletPool.free(bullet);
         }
+        bullets.clear();
+        bulletPool.clear();
 
         for (Weapon weapon : weapons) {
             weapon.dispose();
@@ -272,7 +281,7 @@ public class Player {
     private void updateMovement(float delta, Room currentRoom, InputState state) {
         Vector2 moveDir = state.getMoveDirection();
         if (!moveDir.isZero()) {
-            position.add(moveDir.cpy().scl(currentSpeed * delta));
+            position.mulAdd(moveDir, currentSpeed * delta);
         }
 
         clampToRoomBounds(currentRoom);
@@ -328,8 +337,8 @@ public class Player {
                 Math.atan2(worldMouse.y - position.y, worldMouse.x - position.x));
 
         Vector2 muzzlePos = weapon.getMuzzlePosition(
-                position, angle, facingLeft, bounds.width, bounds.height);
-        Vector2 shootDir = worldMouse.cpy().sub(muzzlePos).nor();
+                tmpMuzzle, position, angle, facingLeft, bounds.width, bounds.height);
+        Vector2 shootDir = tmpShootDir.set(worldMouse).sub(muzzlePos).nor();
 
         weapon.shoot();
 
@@ -339,7 +348,8 @@ public class Player {
 
         float finalBulletSpeed = weapon.getBulletSpeed() * bulletSpeedMultiplier;
 
-        Bullet bullet = new Bullet(muzzlePos.x, muzzlePos.y, shootDir);
+        Bullet bullet = bulletPool.obtain();
+        bullet.init(muzzlePos.x, muzzlePos.y, shootDir);
         bullet.setSpeed(finalBulletSpeed);
         bullet.setDamage(finalDamage);
         bullet.setStatistics(statistics);
@@ -350,19 +360,31 @@ public class Player {
         }
     }
 
-    private void updateBullets(float delta, Room currentRoom) {
-        for (Iterator<Bullet> iter = bullets.iterator(); iter.hasNext();) {
-            Bullet bullet = iter.next();
-            bullet.update(delta);
+    private void updateBullets(float delta) {
+        for (int i = 0; i < bullets.size(); i++) {
+            bullets.get(i).update(delta);
+        }
+    }
+
+    public void releaseSpentBullets(Room currentRoom) {
+        for (int i = bullets.size() - 1; i >= 0; i--) {
+            Bullet bullet = bullets.get(i);
             bullet.checkRoomBounds(currentRoom);
 
             if (!bullet.isActive()) {
-                bullet.dispose();
-                iter.remove();
+                releaseBullet(i);
             }
         }
     }
 
+    private void releaseBullet(int index) {
+        int last = bullets.size() - 1;
+        Bullet bullet = bullets.get(index);
+        bullets.set(index, bullets.get(last));
+        bullets.remove(last);
+        bulletPool.free(bullet);
+    }
+
     private void updateDamageFlash(float delta) {
         if (damageFlashTimer > 0) {
             damageFlashTimer -= delta;
@@ -434,8 +456,8 @@ public class Player {
         Weapon equipped = getEquippedWeapon();
         if (equipped != null) {
             float angle = (float) Math.toDegrees(
-                    Math.atan2(tmpMouse.y - position.y, tmpMouse.x - position.x));
-            equipped.render(batch, position, angle, facingLeft, bounds.width, bounds.height);
+                    Math.atan2(tmpMouse.y - renderPosition.y, tmpMouse.x - renderPosition.x));
+            equipped.render(batch, renderPosition, angle, facingLeft, bounds.width, bounds.height);
         }
     }
 
@@ -519,6 +541,10 @@ public class Player {
         return bullets;
     }
 
+    public BulletPool getBulletPool() {
+        return bulletPool;
+    }
+
     public int getHealth() {
         return currentHealth;
     }
@@ -538,9 +564,9 @@ public class Player {
         return getEquippedWeapon();
     }
 
-    public Texture getCurrentWeaponTexture() {
+    public TextureRegion getCurrentWeaponRegion() {
         Weapon weapon = getCurrentWeapon();
-        return weapon != null ? weapon.getTexture() : null;
+        return weapon != null ? weapon.getRegion() : null;
     }
 
     public List<PassiveItem> getPassiveItems() {
@@ -1,10 +1,10 @@
 package project.roguelike.entities;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.graphics.g2d.Animation;
+import project.roguelike.core.AssetRegistry;
 import project.roguelike.core.GameConfig;
 
 public class Trap {
@@ -12,13 +12,9 @@ public class Trap {
     private static final int FRAME_HEIGHT = 16;
     private static final float ANIMATION_SPEED = 0.15f;
 
-    private static final Texture TRAP_TEXTURE = new Texture("textures/trap.png");
-    private static final Animation<TextureRegion> ANIMATION;
-    static {
-        TextureRegion[][] tmp = TextureRegion.split(TRAP_TEXTURE, FRAME_WIDTH, FRAME_HEIGHT);
-        ANIMATION = new Animation<>(ANIMATION_SPEED, tmp[0]);
-    }
+    private static final String TEXTURE_PATH = "textures/trap.png";
 
+    private final Animation<TextureRegion> animation;
     private final Vector2 position;
     private final int damage;
     private float cooldown = 0f;
@@ -27,6 +23,8 @@ public class Trap {
     public Trap(Vector2 position, int damage) {
         this.position = position;
         this.damage = damage;
+        this.animation = AssetRegistry.getAnimation(TEXTURE_PATH, FRAME_WIDTH, FRAME_HEIGHT,
+                ANIMATION_SPEED, Animation.PlayMode.NORMAL);
     }
 
     public void update(float delta, Player player) {
@@ -45,7 +43,7 @@ public class Trap {
     }
 
     public void render(SpriteBatch batch) {
-        TextureRegion frame = ANIMATION.getKeyFrame(animationTime, true);
+        TextureRegion frame = animation.getKeyFrame(animationTime, true);
         float size = GameConfig.TILE_SIZE;
         batch.draw(frame, position.x - size / 2f, position.y - size / 2f, size, size);
     }
@@ -2,7 +2,10 @@ package project.roguelike.items;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Vector2;
+import project.roguelike.core.AssetRegistry;
 
 public abstract class Item {
     public enum ItemType {
@@ -14,7 +17,9 @@ public abstract class Item {
     private final ItemType type;
     private Vector2 position;
 
-    protected Texture texture;
+    protected TextureRegion region;
+    protected int textureWidth;
+    protected int textureHeight;
     protected float width;
     protected float height;
 
@@ -38,9 +43,21 @@ public abstract class Item {
             return;
         }
 
-        this.texture = texture;
-        float aspect = (float) texture.getHeight() / texture.getWidth();
-        this.width = texture.getWidth() + baseSize;
+        this.region = new TextureRegion(texture);
+        applyTextureSize(texture.getWidth(), texture.getHeight(), baseSize);
+    }
+
+    public void setTexture(String path, float baseSize) {
+        GridPoint2 size = AssetRegistry.getTextureSize(path);
+        this.region = AssetRegistry.getRegion(path);
+        applyTextureSize(size.x, size.y, baseSize);
+    }
+
+    private void applyTextureSize(int textureWidth, int textureHeight, float baseSize) {
+        this.textureWidth = textureWidth;
+        this.textureHeight = textureHeight;
+        float aspect = (float) textureHeight / textureWidth;
+        this.width = textureWidth + baseSize;
         this.height = this.width * aspect;
     }
 
@@ -52,32 +69,29 @@ public abstract class Item {
             return;
         }
 
-        batch.draw(texture,
+        batch.draw(region,
                 position.x - width / 2f,
                 position.y - height / 2f,
                 width, height);
     }
 
     public void render(SpriteBatch batch, Vector2 renderPosition) {
-        if (texture == null || renderPosition == null) {
+        if (region == null || renderPosition == null) {
             return;
         }
 
-        batch.draw(texture,
+        batch.draw(region,
                 renderPosition.x - width / 2f,
                 renderPosition.y - height / 2f,
                 width, height);
     }
 
     public void dispose() {
-        if (texture != null) {
-            texture.dispose();
-            texture = null;
-        }
+        region = null;
     }
 
     private boolean canRender() {
-        return texture != null && position != null;
+        return region != null && position != null;
     }
 
     public String getId() {
@@ -96,7 +110,7 @@ public abstract class Item {
         return position;
     }
 
-    public Texture getTexture() {
-        return texture;
+    public TextureRegion getRegion() {
+        return region;
     }
 }
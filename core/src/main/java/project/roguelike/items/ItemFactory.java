@@ -2,6 +2,7 @@ package project.roguelike.items;
 
 import com.badlogic.gdx.math.Vector2;
 import java.util.Random;
+import project.roguelike.core.GameRandom;
 import project.roguelike.items.passiveItems.*;
 import project.roguelike.items.activeItems.*;
 import project.roguelike.items.consumableItems.*;
@@ -9,10 +10,12 @@ import project.roguelike.items.weapons.*;
 import project.roguelike.items.currencyItems.*;
 
 public class ItemFactory {
-    private static final Random rand = new Random();
-
     public static Item createRandomItem(Vector2 position) {
-        int roll = rand.nextInt(17);
+        return createRandomItem(position, GameRandom.get(GameRandom.Stream.LOOT));
+    }
+
+    public static Item createRandomItem(Vector2 position, Random random) {
+        int roll = random.nextInt(17);
         switch (roll) {
             case 0:
                 return new DamageBoost(position);
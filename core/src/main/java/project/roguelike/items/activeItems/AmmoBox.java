@@ -1,6 +1,5 @@
 package project.roguelike.items.activeItems;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import project.roguelike.core.GameConfig;
 import project.roguelike.entities.Player;
@@ -13,8 +12,7 @@ public class AmmoBox extends ActiveItem {
 
     public AmmoBox() {
         super(ITEM_ID, ITEM_NAME, COOLDOWN);
-        this.texture = new Texture("textures/ammo_box.png");
-        setTexture(texture, GameConfig.TILE_SIZE / 2f);
+        setTexture("textures/ammo_box.png", GameConfig.TILE_SIZE / 2f);
     }
 
     public AmmoBox(Vector2 position) {
@@ -35,12 +33,4 @@ public class AmmoBox extends ActiveItem {
             }
         }
     }
-
-    @Override
-    public void dispose() {
-        super.dispose();
-        if (texture != null) {
-            texture.dispose();
-        }
-    }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package project.roguelike.items.activeItems;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import project.roguelike.core.GameConfig;
 import project.roguelike.entities.Player;
@@ -11,8 +10,7 @@ public class MedKit extends ActiveItem {
 
     public MedKit() {
         super("medkit", "Med Kit", COOLDOWN);
-        this.texture = new Texture("textures/medkit.png");
-        setTexture(texture, GameConfig.TILE_SIZE / 2f);
+        setTexture("textures/medkit.png", GameConfig.TILE_SIZE / 2f);
     }
 
     public MedKit(Vector2 position) {
@@ -29,12 +27,4 @@ public class MedKit extends ActiveItem {
             player.heal(HEAL_AMOUNT);
         }
     }
-
-    @Override
-    public void dispose() {
-        super.dispose();
-        if (texture != null) {
-            texture.dispose();
-        }
-    }
 }
\ No newline at end of file
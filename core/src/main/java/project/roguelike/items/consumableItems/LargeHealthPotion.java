@@ -1,6 +1,5 @@
 package project.roguelike.items.consumableItems;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import project.roguelike.entities.Player;
 
@@ -10,8 +9,7 @@ public class LargeHealthPotion extends ConsumableItem {
     public LargeHealthPotion() {
         super("largeHealthPotion", "Large Health Potion");
 
-        Texture spriteSheet = new Texture("textures/potion_large.png");
-        initializeAnimation(spriteSheet);
+        initializeAnimation("textures/potion_large.png");
     }
 
     public LargeHealthPotion(Vector2 position) {
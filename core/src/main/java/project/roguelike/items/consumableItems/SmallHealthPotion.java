@@ -1,6 +1,5 @@
 package project.roguelike.items.consumableItems;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import project.roguelike.entities.Player;
 
@@ -10,8 +9,7 @@ public class SmallHealthPotion extends ConsumableItem {
     public SmallHealthPotion() {
         super("smallHealthPotion", "Small Health Potion");
 
-        Texture spriteSheet = new Texture("textures/potion_small.png");
-        initializeAnimation(spriteSheet);
+        initializeAnimation("textures/potion_small.png");
     }
 
     public SmallHealthPotion(Vector2 position) {
@@ -1,6 +1,5 @@
 package project.roguelike.items.currencyItems;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import project.roguelike.entities.Player;
 
@@ -11,8 +10,7 @@ public class Coin extends CurrencyItem {
 
     public Coin() {
         super(ITEM_ID, ITEM_NAME, COIN_VALUE);
-        Texture spriteSheet = new Texture("textures/coin.png");
-        initializeAnimation(spriteSheet);
+        initializeAnimation("textures/coin.png");
     }
 
     public Coin(Vector2 position, int value) {
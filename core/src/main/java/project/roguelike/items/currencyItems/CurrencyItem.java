@@ -1,10 +1,10 @@
 package project.roguelike.items.currencyItems;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import project.roguelike.core.AssetRegistry;
 import project.roguelike.core.GameConfig;
 import project.roguelike.entities.Player;
 import project.roguelike.items.Item;
@@ -12,7 +12,6 @@ import project.roguelike.items.Item;
 public abstract class CurrencyItem extends Item {
     private static final int FRAME_WIDTH = 16;
     private static final int FRAME_HEIGHT = 16;
-    private static final int FRAME_COUNT = 4;
     private static final float FRAME_DURATION = 0.2f;
 
     protected Animation<TextureRegion> idleAnimation;
@@ -25,27 +24,15 @@ public abstract class CurrencyItem extends Item {
         this.stateTime = 0f;
     }
 
-    protected void initializeAnimation(Texture spriteSheet) {
-        if (spriteSheet == null) {
-            return;
-        }
-
-        this.texture = spriteSheet;
-
-        TextureRegion[][] tmp = TextureRegion.split(
-                spriteSheet,
+    protected void initializeAnimation(String spriteSheetPath) {
+        idleAnimation = AssetRegistry.getAnimation(
+                spriteSheetPath,
                 FRAME_WIDTH,
-                FRAME_HEIGHT);
-
-        TextureRegion[] frames = new TextureRegion[FRAME_COUNT];
-        for (int i = 0; i < FRAME_COUNT; i++) {
-            frames[i] = tmp[0][i];
-        }
+                FRAME_HEIGHT,
+                FRAME_DURATION,
+                Animation.PlayMode.LOOP);
 
-        idleAnimation = new Animation<>(FRAME_DURATION, frames);
-        idleAnimation.setPlayMode(Animation.PlayMode.LOOP);
-
-        setTexture(frames[0].getTexture(), GameConfig.TILE_SIZE / 2f);
+        setTexture(spriteSheetPath, GameConfig.TILE_SIZE / 2f);
     }
 
     @Override
@@ -76,12 +63,4 @@ public abstract class CurrencyItem extends Item {
     public int getValue() {
         return value;
     }
-
-    @Override
-    public void dispose() {
-        super.dispose();
-        if (texture != null) {
-            texture.dispose();
-        }
-    }
 }
\ No newline at end of file
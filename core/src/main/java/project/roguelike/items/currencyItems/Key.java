@@ -1,6 +1,5 @@
 package project.roguelike.items.currencyItems;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import project.roguelike.entities.Player;
 
@@ -11,8 +10,7 @@ public class Key extends CurrencyItem {
 
     public Key() {
         super(ITEM_ID, ITEM_NAME, KEY_VALUE);
-        Texture spriteSheet = new Texture("textures/key.png");
-        initializeAnimation(spriteSheet);
+        initializeAnimation("textures/key.png");
     }
 
     public Key(Vector2 position, int value) {
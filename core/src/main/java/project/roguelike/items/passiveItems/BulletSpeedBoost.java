@@ -1,6 +1,5 @@
 package project.roguelike.items.passiveItems;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 
 public class BulletSpeedBoost extends PassiveItem {
@@ -20,8 +19,7 @@ public class BulletSpeedBoost extends PassiveItem {
                 1.0f,
                 1.0f);
 
-        Texture spriteSheet = new Texture("textures/bullet_speed_boost.png");
-        initializeAnimation(spriteSheet);
+        initializeAnimation("textures/bullet_speed_boost.png");
     }
 
     public BulletSpeedBoost(Vector2 position) {
@@ -1,6 +1,5 @@
 package project.roguelike.items.passiveItems;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 
 public class DamageBoost extends PassiveItem {
@@ -20,8 +19,7 @@ public class DamageBoost extends PassiveItem {
                 1.0f,
                 1.0f);
 
-        Texture spriteSheet = new Texture("textures/damage_boost.png");
-        initializeAnimation(spriteSheet);
+        initializeAnimation("textures/damage_boost.png");
     }
 
     public DamageBoost(Vector2 position) {
@@ -1,6 +1,5 @@
 package project.roguelike.items.passiveItems;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 
 public class FireRateBoost extends PassiveItem {
@@ -20,8 +19,7 @@ public class FireRateBoost extends PassiveItem {
                 FIRE_RATE_MULTIPLIER,
                 1.0f);
 
-        Texture spriteSheet = new Texture("textures/fire_rate_boost.png");
-        initializeAnimation(spriteSheet);
+        initializeAnimation("textures/fire_rate_boost.png");
     }
 
     public FireRateBoost(Vector2 position) {
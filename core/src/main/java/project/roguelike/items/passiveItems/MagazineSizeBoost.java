@@ -1,6 +1,5 @@
 package project.roguelike.items.passiveItems;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 
 public class MagazineSizeBoost extends PassiveItem {
@@ -20,8 +19,7 @@ public class MagazineSizeBoost extends PassiveItem {
                 1.0f,
                 MAGAZINE_MULTIPLIER);
 
-        Texture spriteSheet = new Texture("textures/magazine_boost.png");
-        initializeAnimation(spriteSheet);
+        initializeAnimation("textures/magazine_boost.png");
     }
 
     public MagazineSizeBoost(Vector2 position) {
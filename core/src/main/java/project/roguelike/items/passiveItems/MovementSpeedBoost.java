@@ -1,6 +1,5 @@
 package project.roguelike.items.passiveItems;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 
 public class MovementSpeedBoost extends PassiveItem {
@@ -20,8 +19,7 @@ public class MovementSpeedBoost extends PassiveItem {
                 1.0f,
                 1.0f);
 
-        Texture spriteSheet = new Texture("textures/speed_boost.png");
-        initializeAnimation(spriteSheet);
+        initializeAnimation("textures/speed_boost.png");
     }
 
     public MovementSpeedBoost(Vector2 position) {
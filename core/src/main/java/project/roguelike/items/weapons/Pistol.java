@@ -1,6 +1,5 @@
 package project.roguelike.items.weapons;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import project.roguelike.core.GameConfig;
 
@@ -15,8 +14,7 @@ public class Pistol extends Weapon {
                 7,
                 1f,
                 false);
-        this.texture = new Texture("textures/pistol.png");
-        setTexture(texture, GameConfig.TILE_SIZE / 2F);
+        setTexture("textures/pistol.png", GameConfig.TILE_SIZE / 2F);
     }
 
     public Pistol(Vector2 position) {
@@ -1,6 +1,5 @@
 package project.roguelike.items.weapons;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import project.roguelike.core.GameConfig;
 
@@ -15,8 +14,7 @@ public class Rifle extends Weapon {
                 30,
                 1.8f,
                 true);
-        this.texture = new Texture("textures/rifle.png");
-        setTexture(texture, GameConfig.TILE_SIZE / 2F);
+        setTexture("textures/rifle.png", GameConfig.TILE_SIZE / 2F);
     }
 
     public Rifle(Vector2 position) {
@@ -1,6 +1,5 @@
 package project.roguelike.items.weapons;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import project.roguelike.core.GameConfig;
 
@@ -15,8 +14,7 @@ public class Shotgun extends Weapon {
                 6,
                 2f,
                 false);
-        this.texture = new Texture("textures/shotgun.png");
-        setTexture(texture, GameConfig.TILE_SIZE / 2F);
+        setTexture("textures/shotgun.png", GameConfig.TILE_SIZE / 2F);
     }
 
     public Shotgun(Vector2 position) {
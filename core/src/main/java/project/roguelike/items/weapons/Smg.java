@@ -1,6 +1,5 @@
 package project.roguelike.items.weapons;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import project.roguelike.core.GameConfig;
 
@@ -15,8 +14,7 @@ public class Smg extends Weapon {
                 30,
                 1.4f,
                 true);
-        this.texture = new Texture("textures/smg.png");
-        setTexture(texture, GameConfig.TILE_SIZE / 2F);
+        setTexture("textures/smg.png", GameConfig.TILE_SIZE / 2F);
     }
 
     public Smg(Vector2 position) {
@@ -1,6 +1,5 @@
 package project.roguelike.items.weapons;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.math.Vector2;
 import project.roguelike.core.GameConfig;
 
@@ -15,8 +14,7 @@ public class Sniper extends Weapon {
                 5,
                 2f,
                 false);
-        this.texture = new Texture("textures/sniper.png");
-        setTexture(texture, GameConfig.TILE_SIZE / 2F);
+        setTexture("textures/sniper.png", GameConfig.TILE_SIZE / 2F);
     }
 
     public Sniper(Vector2 position) {
@@ -1,6 +1,5 @@
 package project.roguelike.items.weapons;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import project.roguelike.core.GameConfig;
@@ -18,8 +17,6 @@ public abstract class Weapon extends Item {
     private final float reloadTime;
     private final boolean isAutomatic;
 
-    protected Texture texture;
-
     private float timeSinceLastShot = 0f;
     private int currentAmmo;
     private float reloadProgress = 0f;
@@ -49,27 +46,18 @@ public abstract class Weapon extends Item {
 
     public void render(SpriteBatch batch, Vector2 playerPos, float rotationDeg, boolean flipX,
             float playerWidth, float playerHeight) {
-        if (texture == null) {
+        if (region == null) {
             return;
         }
 
         WeaponRenderData data = calculateRenderData(playerPos, rotationDeg, flipX, playerWidth, playerHeight);
 
-        batch.draw(texture,
+        batch.draw(region,
                 data.drawX, data.drawY,
                 data.originX, data.originY,
                 data.targetW, data.targetH,
-                1f, 1f,
-                data.drawRotation,
-                0, 0,
-                (int) data.texW, (int) data.texH,
-                false, flipX);
-    }
-
-    public void dispose() {
-        if (texture != null) {
-            texture.dispose();
-        }
+                1f, flipX ? -1f : 1f,
+                data.drawRotation);
     }
 
     public void startReload() {
@@ -103,6 +91,11 @@ public abstract class Weapon extends Item {
 
     public Vector2 getMuzzlePosition(Vector2 playerPos, float rotationDeg, boolean flipX,
             float playerWidth, float playerHeight) {
+        return getMuzzlePosition(new Vector2(), playerPos, rotationDeg, flipX, playerWidth, playerHeight);
+    }
+
+    public Vector2 getMuzzlePosition(Vector2 out, Vector2 playerPos, float rotationDeg, boolean flipX,
+            float playerWidth, float playerHeight) {
         float targetW = calculateWeaponWidth(playerWidth);
         float offsetX = calculateOffsetX(playerWidth, flipX);
         float offsetY = playerHeight * GameConfig.OFFSET_Y_RATIO;
@@ -118,7 +111,7 @@ public abstract class Weapon extends Item {
         float muzzleX = pivotX + direction * muzzleDistance * (float) Math.cos(angleRad);
         float muzzleY = pivotY + muzzleDistance * (float) Math.sin(angleRad);
 
-        return new Vector2(muzzleX, muzzleY);
+        return out.set(muzzleX, muzzleY);
     }
 
     private void updateReload(float delta) {
@@ -138,8 +131,8 @@ public abstract class Weapon extends Item {
             float playerWidth, float playerHeight) {
         WeaponRenderData data = new WeaponRenderData();
 
-        data.texW = texture.getWidth();
-        data.texH = texture.getHeight();
+        data.texW = textureWidth;
+        data.texH = textureHeight;
         data.targetW = calculateWeaponWidth(playerWidth);
         data.targetH = data.targetW * (data.texH / data.texW);
 
@@ -156,7 +149,7 @@ public abstract class Weapon extends Item {
     }
 
     private float calculateWeaponWidth(float playerWidth) {
-        return texture.getWidth() + playerWidth * GameConfig.WEAPON_WIDTH_RATIO;
+        return textureWidth + playerWidth * GameConfig.WEAPON_WIDTH_RATIO;
     }
 
     private float calculateOffsetX(float playerWidth, boolean flipX) {
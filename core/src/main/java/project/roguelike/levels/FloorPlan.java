@@ -0,0 +1,49 @@
+package project.roguelike.levels;
+
+import com.badlogic.gdx.math.Vector2;
+import java.util.Collections;
+import java.util.List;
+import project.roguelike.rooms.Room;
+
+public class FloorPlan {
+    private final long seed;
+    private final RoomData[][] layout;
+    private final List<RoomPlan> rooms;
+
+    public static class RoomPlan {
+        public final RoomData.RoomType type;
+        public final int row;
+        public final int col;
+        public final Vector2 position;
+        public final Room.RoomShape shape;
+        public final long contentSeed;
+
+        public RoomPlan(RoomData.RoomType type, int row, int col, Vector2 position, Room.RoomShape shape,
+                long contentSeed) {
+            this.type = type;
+            this.row = row;
+            this.col = col;
+            this.position = position;
+            this.shape = shape;
+            this.contentSeed = contentSeed;
+        }
+    }
+
+    public FloorPlan(long seed, RoomData[][] layout, List<RoomPlan> rooms) {
+        this.seed = seed;
+        this.layout = layout;
+        this.rooms = Collections.unmodifiableList(rooms);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public RoomData[][] getLayout() {
+        return layout;
+    }
+
+    public List<RoomPlan> getRooms() {
+        return rooms;
+    }
+}
@@ -0,0 +1,102 @@
+package project.roguelike.levels;
+
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import java.util.ArrayList;
+import java.util.List;
+import project.roguelike.core.AssetRegistry;
+import project.roguelike.rooms.Room;
+import project.roguelike.rooms.RoomGeometryCache;
+
+public class FloorPreloader {
+    private final AsyncExecutor executor = new AsyncExecutor(1, "FloorPreloader");
+    private final LayoutGenerator layoutGenerator = new LayoutGenerator();
+    private final LevelGenerator levelGenerator = new LevelGenerator();
+
+    private AsyncResult<FloorPlan> pendingPlan;
+    private FloorPlan plan;
+    private final List<Room> rooms = new ArrayList<>();
+    private RoomGeometryCache geometry;
+
+    public void prepare(long seed) {
+        if (isPreparing()) {
+            throw new IllegalStateException("A floor is already being prepared");
+        }
+        pendingPlan = executor.submit(() -> levelGenerator.planLevel(seed, layoutGenerator.generate(seed)));
+    }
+
+    public boolean update(int budgetMillis) {
+        if (!receivePlan(false)) {
+            return false;
+        }
+        return finalizeRooms(TimeUtils.millis() + budgetMillis);
+    }
+
+    public PreparedFloor take() {
+        if (!receivePlan(true)) {
+            throw new IllegalStateException("No floor has been requested");
+        }
+        finalizeRooms(Long.MAX_VALUE);
+
+        PreparedFloor floor = new PreparedFloor(plan.getSeed(), plan.getLayout(), new ArrayList<>(rooms), geometry);
+        plan = null;
+        rooms.clear();
+        geometry = null;
+        return floor;
+    }
+
+    public boolean isPreparing() {
+        return pendingPlan != null || plan != null;
+    }
+
+    public boolean isReady() {
+        if (AssetRegistry.isHeadless()) {
+            return plan != null && rooms.size() == plan.getRooms().size();
+        }
+        return geometry != null;
+    }
+
+    public void dispose() {
+        executor.dispose();
+        pendingPlan = null;
+        plan = null;
+        for (Room room : rooms) {
+            room.dispose();
+        }
+        rooms.clear();
+        if (geometry != null) {
+            geometry.dispose();
+            geometry = null;
+        }
+    }
+
+    private boolean receivePlan(boolean wait) {
+        if (plan != null) {
+            return true;
+        }
+        if (pendingPlan == null || (!wait && !pendingPlan.isDone())) {
+            return false;
+        }
+
+        AsyncResult<FloorPlan> result = pendingPlan;
+        pendingPlan = null;
+        plan = result.get();
+        return true;
+    }
+
+    private boolean finalizeRooms(long deadline) {
+        List<FloorPlan.RoomPlan> roomPlans = plan.getRooms();
+        while (rooms.size() < roomPlans.size()) {
+            rooms.add(levelGenerator.createRoom(roomPlans.get(rooms.size())));
+            if (TimeUtils.millis() >= deadline) {
+                return false;
+            }
+        }
+
+        if (geometry == null && !AssetRegistry.isHeadless()) {
+            geometry = new RoomGeometryCache(rooms);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,400 @@
+package project.roguelike.levels;
+
+import com.badlogic.gdx.math.RandomXS128;
+import java.util.Arrays;
+import project.roguelike.core.GameConfig;
+import project.roguelike.levels.RoomData.RoomType;
+
+public class LayoutGenerator {
+    private static final byte EMPTY = 0;
+    private static final byte NORMAL = encode(RoomType.NORMAL);
+    private static final int DIRECTIONS = 4;
+    private static final long ATTEMPT_SEED_STEP = 0x9E3779B97F4A7C15L;
+    private static final RoomType[] TYPES = RoomType.values();
+
+    private final Settings settings;
+    private final RandomXS128 random = new RandomXS128();
+    private final int rows;
+    private final int cols;
+    private final byte[] cells;
+    private final int[] neighbours;
+    private final int[] distance;
+    private final int[] queue;
+    private final int[] frontier;
+    private final boolean[] inFrontier;
+    private final int[] placed;
+    private final int[] candidates;
+    private int frontierSize;
+    private int placedCount;
+    private int startCell;
+    private int bossCell;
+    private int endCell;
+
+    public static class Settings {
+        public int rows = GameConfig.FLOOR_ROWS;
+        public int cols = GameConfig.FLOOR_COLS;
+        public int roomCount = GameConfig.FLOOR_ROOM_COUNT;
+        public int shopCount = 1;
+        public int chestCount = 1;
+        public int trapCount = 2;
+        public int maxNeighbours = 2;
+        public int maxAttempts = 32;
+
+        public Settings() {
+        }
+
+        public Settings(int rows, int cols, int roomCount) {
+            this.rows = rows;
+            this.cols = cols;
+            this.roomCount = roomCount;
+        }
+
+        private void validate() {
+            if (rows <= 0 || cols <= 0) {
+                throw new IllegalArgumentException("Grid size must be positive: " + rows + "x" + cols);
+            }
+            int specialRooms = 3 + shopCount + chestCount + trapCount;
+            if (roomCount < specialRooms) {
+                throw new IllegalArgumentException(
+                        "Room count " + roomCount + " cannot hold " + specialRooms + " required rooms");
+            }
+            if (roomCount > rows * cols) {
+                throw new IllegalArgumentException(
+                        "Room count " + roomCount + " does not fit a " + rows + "x" + cols + " grid");
+            }
+            if (maxNeighbours < 1 || maxAttempts < 1) {
+                throw new IllegalArgumentException("maxNeighbours and maxAttempts must be positive");
+            }
+        }
+    }
+
+    public static class BulkReport {
+        public final long firstSeed;
+        public final int count;
+        public final int failed;
+        public final int invalid;
+        public final long firstBadSeed;
+        public final long elapsedNanos;
+
+        public BulkReport(long firstSeed, int count, int failed, int invalid, long firstBadSeed, long elapsedNanos) {
+            this.firstSeed = firstSeed;
+            this.count = count;
+            this.failed = failed;
+            this.invalid = invalid;
+            this.firstBadSeed = firstBadSeed;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public double getMicrosPerFloor() {
+            return count > 0 ? elapsedNanos / 1000.0 / count : 0.0;
+        }
+    }
+
+    public LayoutGenerator() {
+        this(new Settings());
+    }
+
+    public LayoutGenerator(Settings settings) {
+        settings.validate();
+        this.settings = settings;
+        this.rows = settings.rows;
+        this.cols = settings.cols;
+
+        int size = rows * cols;
+        this.cells = new byte[size];
+        this.neighbours = createNeighbourTable(rows, cols);
+        this.distance = new int[size];
+        this.queue = new int[size];
+        this.frontier = new int[size];
+        this.inFrontier = new boolean[size];
+        this.placed = new int[size];
+        this.candidates = new int[size];
+    }
+
+    public RoomData[][] generate(long seed) {
+        if (!generateCells(seed)) {
+            throw new IllegalStateException("No valid floor for seed " + seed + " after "
+                    + settings.maxAttempts + " attempts");
+        }
+        return toLayout();
+    }
+
+    public boolean generateCells(long seed) {
+        for (int attempt = 0; attempt < settings.maxAttempts; attempt++) {
+            random.setSeed(seed + attempt * ATTEMPT_SEED_STEP);
+            if (tryGenerate()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public BulkReport generateBulk(long firstSeed, int count) {
+        int failed = 0;
+        int invalid = 0;
+        long firstBadSeed = -1;
+        long start = System.nanoTime();
+
+        for (int i = 0; i < count; i++) {
+            long seed = firstSeed + i;
+            boolean bad;
+            if (!generateCells(seed)) {
+                failed++;
+                bad = true;
+            } else if (!isValid()) {
+                invalid++;
+                bad = true;
+            } else {
+                bad = false;
+            }
+
+            if (bad && failed + invalid == 1) {
+                firstBadSeed = seed;
+            }
+        }
+
+        return new BulkReport(firstSeed, count, failed, invalid, firstBadSeed, System.nanoTime() - start);
+    }
+
+    public boolean isValid() {
+        int starts = 0;
+        int bosses = 0;
+        int ends = 0;
+        for (int i = 0; i < placedCount; i++) {
+            RoomType type = getType(placed[i]);
+            if (type == RoomType.START) {
+                starts++;
+            } else if (type == RoomType.BOSS) {
+                bosses++;
+            } else if (type == RoomType.END) {
+                ends++;
+            }
+        }
+
+        if (starts != 1 || bosses != 1 || ends != 1) {
+            return false;
+        }
+        if (countNeighbours(endCell) != 1 || !isNeighbour(endCell, bossCell)) {
+            return false;
+        }
+        return placedCount == settings.roomCount && countReachable(startCell) == placedCount;
+    }
+
+    public RoomType getTypeAt(int row, int col) {
+        return getType(row * cols + col);
+    }
+
+    public RoomData[][] toLayout() {
+        RoomData[][] layout = new RoomData[rows][cols];
+        for (int i = 0; i < placedCount; i++) {
+            int cell = placed[i];
+            layout[cell / cols][cell % cols] = new RoomData(getType(cell), null);
+        }
+        return layout;
+    }
+
+    private boolean tryGenerate() {
+        Arrays.fill(cells, EMPTY);
+        Arrays.fill(inFrontier, false);
+        frontierSize = 0;
+        placedCount = 0;
+
+        startCell = random.nextInt(rows * cols);
+        place(startCell, RoomType.START);
+
+        if (!growRooms(settings.roomCount - 1) || !placeBossAndEnd()) {
+            return false;
+        }
+
+        if (!assignRooms(RoomType.SHOP, settings.shopCount, true)
+                || !assignRooms(RoomType.CHEST, settings.chestCount, true)
+                || !assignRooms(RoomType.TRAP, settings.trapCount, false)) {
+            return false;
+        }
+
+        return countReachable(startCell) == placedCount;
+    }
+
+    private boolean growRooms(int target) {
+        while (placedCount < target && frontierSize > 0) {
+            int index = random.nextInt(frontierSize);
+            int cell = frontier[index];
+            frontier[index] = frontier[--frontierSize];
+            inFrontier[cell] = false;
+
+            if (cells[cell] == EMPTY && countNeighbours(cell) <= settings.maxNeighbours) {
+                place(cell, RoomType.NORMAL);
+            }
+        }
+        return placedCount == target;
+    }
+
+    private boolean placeBossAndEnd() {
+        computeDistances(startCell);
+
+        int bestBoss = -1;
+        int bestEnd = -1;
+        int bestDistance = -1;
+        int ties = 0;
+
+        for (int i = 0; i < placedCount; i++) {
+            int cell = placed[i];
+            if (cell == startCell || distance[cell] < bestDistance) {
+                continue;
+            }
+
+            int end = findEndSlot(cell);
+            if (end < 0) {
+                continue;
+            }
+
+            if (distance[cell] > bestDistance) {
+                bestDistance = distance[cell];
+                ties = 0;
+            }
+            ties++;
+            if (random.nextInt(ties) == 0) {
+                bestBoss = cell;
+                bestEnd = end;
+            }
+        }
+
+        if (bestBoss < 0) {
+            return false;
+        }
+
+        bossCell = bestBoss;
+        endCell = bestEnd;
+        cells[bossCell] = encode(RoomType.BOSS);
+        place(endCell, RoomType.END);
+        return true;
+    }
+
+    private int findEndSlot(int cell) {
+        int chosen = -1;
+        int options = 0;
+
+        for (int direction = 0; direction < DIRECTIONS; direction++) {
+            int neighbour = neighbours[cell * DIRECTIONS + direction];
+            if (neighbour < 0 || cells[neighbour] != EMPTY || countNeighbours(neighbour) != 1) {
+                continue;
+            }
+            options++;
+            if (random.nextInt(options) == 0) {
+                chosen = neighbour;
+            }
+        }
+        return chosen;
+    }
+
+    private boolean assignRooms(RoomType type, int count, boolean preferDeadEnds) {
+        for (int n = 0; n < count; n++) {
+            int candidateCount = collectCandidates(preferDeadEnds);
+            if (candidateCount == 0 && preferDeadEnds) {
+                candidateCount = collectCandidates(false);
+            }
+            if (candidateCount == 0) {
+                return false;
+            }
+            cells[candidates[random.nextInt(candidateCount)]] = encode(type);
+        }
+        return true;
+    }
+
+    private int collectCandidates(boolean deadEndsOnly) {
+        int count = 0;
+        for (int i = 0; i < placedCount; i++) {
+            int cell = placed[i];
+            if (cells[cell] != NORMAL || isNeighbour(cell, startCell)) {
+                continue;
+            }
+            if (deadEndsOnly && countNeighbours(cell) != 1) {
+                continue;
+            }
+            candidates[count++] = cell;
+        }
+        return count;
+    }
+
+    private void place(int cell, RoomType type) {
+        cells[cell] = encode(type);
+        placed[placedCount++] = cell;
+
+        for (int direction = 0; direction < DIRECTIONS; direction++) {
+            int neighbour = neighbours[cell * DIRECTIONS + direction];
+            if (neighbour >= 0 && cells[neighbour] == EMPTY && !inFrontier[neighbour]) {
+                inFrontier[neighbour] = true;
+                frontier[frontierSize++] = neighbour;
+            }
+        }
+    }
+
+    private void computeDistances(int from) {
+        Arrays.fill(distance, -1);
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = from;
+        distance[from] = 0;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            for (int direction = 0; direction < DIRECTIONS; direction++) {
+                int neighbour = neighbours[cell * DIRECTIONS + direction];
+                if (neighbour >= 0 && cells[neighbour] != EMPTY && distance[neighbour] < 0) {
+                    distance[neighbour] = distance[cell] + 1;
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+    }
+
+    private int countReachable(int from) {
+        computeDistances(from);
+        int reachable = 0;
+        for (int i = 0; i < placedCount; i++) {
+            if (distance[placed[i]] >= 0) {
+                reachable++;
+            }
+        }
+        return reachable;
+    }
+
+    private int countNeighbours(int cell) {
+        int count = 0;
+        for (int direction = 0; direction < DIRECTIONS; direction++) {
+            int neighbour = neighbours[cell * DIRECTIONS + direction];
+            if (neighbour >= 0 && cells[neighbour] != EMPTY) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean isNeighbour(int a, int b) {
+        int base = a * DIRECTIONS;
+        return neighbours[base] == b || neighbours[base + 1] == b
+                || neighbours[base + 2] == b || neighbours[base + 3] == b;
+    }
+
+    private static int[] createNeighbourTable(int rows, int cols) {
+        int[] table = new int[rows * cols * DIRECTIONS];
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int base = (row * cols + col) * DIRECTIONS;
+                table[base] = row > 0 ? (row - 1) * cols + col : -1;
+                table[base + 1] = row < rows - 1 ? (row + 1) * cols + col : -1;
+                table[base + 2] = col > 0 ? row * cols + col - 1 : -1;
+                table[base + 3] = col < cols - 1 ? row * cols + col + 1 : -1;
+            }
+        }
+        return table;
+    }
+
+    private RoomType getType(int cell) {
+        return cells[cell] == EMPTY ? null : TYPES[cells[cell] - 1];
+    }
+
+    private static byte encode(RoomType type) {
+        return (byte) (type.ordinal() + 1);
+    }
+}
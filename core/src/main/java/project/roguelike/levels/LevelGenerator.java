@@ -4,6 +4,7 @@ import com.badlogic.gdx.math.Vector2;
 import java.util.ArrayList;
 import java.util.List;
 import project.roguelike.core.GameConfig;
+import project.roguelike.core.GameRandom;
 import project.roguelike.rooms.BossRoom;
 import project.roguelike.rooms.ChestRoom;
 import project.roguelike.rooms.EndRoom;
@@ -25,7 +26,16 @@ public class LevelGenerator {
     }
 
     public List<Room> generateLevel(RoomData[][] layout) {
-        List<Room> rooms = new ArrayList<>();
+        FloorPlan plan = planLevel(GameRandom.get(GameRandom.Stream.LAYOUT).nextLong(), layout);
+        List<Room> rooms = new ArrayList<>(plan.getRooms().size());
+        for (FloorPlan.RoomPlan roomPlan : plan.getRooms()) {
+            rooms.add(createRoom(roomPlan));
+        }
+        return rooms;
+    }
+
+    public FloorPlan planLevel(long seed, RoomData[][] layout) {
+        List<FloorPlan.RoomPlan> rooms = new ArrayList<>();
         int rows = layout.length;
         int cols = layout[0].length;
 
@@ -42,14 +52,19 @@ public class LevelGenerator {
 
                 Vector2 position = calculateRoomPosition(offsetX, offsetY, row, col, rows);
                 Room.RoomShape shape = determineRoomShape(layout, data, row, col);
-                Room room = createRoom(data.type, position, shape);
-
-                room.setGridPosition(row, col);
-                rooms.add(room);
+                long contentSeed = GameRandom.deriveSeed(seed, row * cols + col);
+                rooms.add(new FloorPlan.RoomPlan(data.type, row, col, position, shape, contentSeed));
             }
         }
 
-        return rooms;
+        return new FloorPlan(seed, layout, rooms);
+    }
+
+    public Room createRoom(FloorPlan.RoomPlan plan) {
+        Room room = createRoom(plan.type, new Vector2(plan.position), plan.shape);
+        room.setGridPosition(plan.row, plan.col);
+        room.setContentSeed(plan.contentSeed);
+        return room;
     }
 
     private Vector2 calculateRoomPosition(float offsetX, float offsetY, int row, int col, int totalRows) {
@@ -0,0 +1,35 @@
+package project.roguelike.levels;
+
+import java.util.List;
+import project.roguelike.rooms.Room;
+import project.roguelike.rooms.RoomGeometryCache;
+
+public class PreparedFloor {
+    private final long seed;
+    private final RoomData[][] layout;
+    private final List<Room> rooms;
+    private final RoomGeometryCache geometry;
+
+    public PreparedFloor(long seed, RoomData[][] layout, List<Room> rooms, RoomGeometryCache geometry) {
+        this.seed = seed;
+        this.layout = layout;
+        this.rooms = rooms;
+        this.geometry = geometry;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public RoomData[][] getLayout() {
+        return layout;
+    }
+
+    public List<Room> getRooms() {
+        return rooms;
+    }
+
+    public RoomGeometryCache getGeometry() {
+        return geometry;
+    }
+}
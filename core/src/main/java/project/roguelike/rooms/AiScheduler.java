@@ -0,0 +1,107 @@
+package project.roguelike.rooms;
+
+import project.roguelike.core.GameConfig;
+import project.roguelike.entities.Enemy;
+
+public class AiScheduler {
+    private int farThinkInterval = GameConfig.AI_FAR_THINK_INTERVAL;
+    private int farThinkBudget = GameConfig.AI_FAR_THINK_BUDGET;
+    private float nearRange = GameConfig.AI_NEAR_RANGE;
+
+    private long tick = 0;
+    private int nearThinks;
+    private int farThinks;
+    private int skipped;
+    private int deferred;
+    private long totalThinks;
+
+    public void beginTick() {
+        tick++;
+        nearThinks = 0;
+        farThinks = 0;
+        skipped = 0;
+        deferred = 0;
+    }
+
+    public boolean shouldThink(Enemy enemy, int index, boolean hasTarget) {
+        if (!hasTarget || isNear(enemy)) {
+            nearThinks++;
+            totalThinks++;
+            return true;
+        }
+
+        if ((index + tick) % farThinkInterval != 0) {
+            skipped++;
+            return false;
+        }
+
+        if (farThinks >= farThinkBudget) {
+            deferred++;
+            return false;
+        }
+
+        farThinks++;
+        totalThinks++;
+        return true;
+    }
+
+    public void setFarThinkInterval(int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("Think interval must be at least 1: " + interval);
+        }
+        this.farThinkInterval = interval;
+    }
+
+    public void setFarThinkBudget(int budget) {
+        if (budget < 0) {
+            throw new IllegalArgumentException("Think budget cannot be negative: " + budget);
+        }
+        this.farThinkBudget = budget;
+    }
+
+    public void setNearRange(float range) {
+        if (range < 0f) {
+            throw new IllegalArgumentException("Near range cannot be negative: " + range);
+        }
+        this.nearRange = range;
+    }
+
+    public float getNearRange() {
+        return nearRange;
+    }
+
+    public int getFarThinkInterval() {
+        return farThinkInterval;
+    }
+
+    public int getFarThinkBudget() {
+        return farThinkBudget;
+    }
+
+    public int getNearThinks() {
+        return nearThinks;
+    }
+
+    public int getFarThinks() {
+        return farThinks;
+    }
+
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public int getDeferred() {
+        return deferred;
+    }
+
+    public long getTotalThinks() {
+        return totalThinks;
+    }
+
+    private boolean isNear(Enemy enemy) {
+        if (enemy.isDying() || enemy.getState() == Enemy.State.ATTACK) {
+            return true;
+        }
+        return enemy.getLastThinkDistanceSquared() <= nearRange * nearRange;
+    }
+}
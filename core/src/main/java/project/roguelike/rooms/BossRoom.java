@@ -1,9 +1,9 @@
 package project.roguelike.rooms;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.Animation;
+import project.roguelike.core.AssetRegistry;
 import project.roguelike.core.RoomContentGenerator;
 import project.roguelike.core.RoomContentPlan;
 import project.roguelike.core.GameConfig;
@@ -15,17 +15,15 @@ public class BossRoom extends Room {
     private static final int FIRE_FRAME_HEIGHT = 16;
     private static final float FIRE_FRAME_DURATION = 0.15f;
 
-    private static final Texture FIRE_TEXTURE = new Texture("textures/candlestick.png");
-    private static final Animation<TextureRegion> FIRE_ANIMATION;
-    static {
-        TextureRegion[][] tmp = TextureRegion.split(FIRE_TEXTURE, FIRE_FRAME_WIDTH, FIRE_FRAME_HEIGHT);
-        FIRE_ANIMATION = new Animation<>(FIRE_FRAME_DURATION, tmp[0]);
-    }
+    private static final String FIRE_TEXTURE_PATH = "textures/candlestick.png";
 
+    private final Animation<TextureRegion> fireAnimation;
     private float fireStateTime = 0f;
 
     public BossRoom(Vector2 position, RoomShape shape) {
         super(position, shape);
+        this.fireAnimation = AssetRegistry.getAnimation(FIRE_TEXTURE_PATH, FIRE_FRAME_WIDTH, FIRE_FRAME_HEIGHT,
+                FIRE_FRAME_DURATION, Animation.PlayMode.NORMAL);
     }
 
     @Override
@@ -51,7 +49,7 @@ public class BossRoom extends Room {
         super.render(batch);
 
         float fireSize = GameConfig.TILE_SIZE;
-        TextureRegion fireFrame = FIRE_ANIMATION.getKeyFrame(fireStateTime, true);
+        TextureRegion fireFrame = fireAnimation.getKeyFrame(fireStateTime, true);
 
         float x0 = getPosition().x;
         float y0 = getPosition().y;
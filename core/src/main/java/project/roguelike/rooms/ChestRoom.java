@@ -1,33 +1,29 @@
 package project.roguelike.rooms;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import project.roguelike.core.GameConfig;
 import project.roguelike.core.RoomContentPlan;
+import project.roguelike.core.AssetRegistry;
 import project.roguelike.core.RoomContentGenerator;
-import java.util.Random;
 
 public class ChestRoom extends Room {
     private static final int FIRE_FRAME_WIDTH = 16;
     private static final int FIRE_FRAME_HEIGHT = 16;
     private static final float FIRE_FRAME_DURATION = 0.15f;
-    private static final Random random = new Random();
     private static final int MIN_ENEMIES = 2;
     private static final int MAX_ENEMIES = 6;
 
-    private static final Texture FIRE_TEXTURE = new Texture("textures/candlestick.png");
-    private static final Animation<TextureRegion> FIRE_ANIMATION;
-    static {
-        TextureRegion[][] tmp = TextureRegion.split(FIRE_TEXTURE, FIRE_FRAME_WIDTH, FIRE_FRAME_HEIGHT);
-        FIRE_ANIMATION = new Animation<>(FIRE_FRAME_DURATION, tmp[0]);
-    }
+    private static final String FIRE_TEXTURE_PATH = "textures/candlestick.png";
 
+    private final Animation<TextureRegion> fireAnimation;
     private float fireStateTime = 0f;
 
     public ChestRoom(Vector2 position, RoomShape shape) {
         super(position, shape);
+        this.fireAnimation = AssetRegistry.getAnimation(FIRE_TEXTURE_PATH, FIRE_FRAME_WIDTH, FIRE_FRAME_HEIGHT,
+                FIRE_FRAME_DURATION, Animation.PlayMode.NORMAL);
     }
 
     @Override
@@ -48,7 +44,7 @@ public class ChestRoom extends Room {
             plan.minEnemies = MIN_ENEMIES;
             plan.maxEnemies = MAX_ENEMIES;
 
-            int enemyCount = random.nextInt(MAX_ENEMIES - MIN_ENEMIES + 1) + MIN_ENEMIES;
+            int enemyCount = contentRandom().nextInt(MAX_ENEMIES - MIN_ENEMIES + 1) + MIN_ENEMIES;
             for (int i = 0; i < enemyCount; i++) {
                 plan.enemies.add(new RoomContentPlan.EnemySpawn("orc", null));
             }
@@ -70,7 +66,7 @@ public class ChestRoom extends Room {
         super.render(batch);
 
         float fireSize = GameConfig.TILE_SIZE;
-        TextureRegion fireFrame = FIRE_ANIMATION.getKeyFrame(fireStateTime, true);
+        TextureRegion fireFrame = fireAnimation.getKeyFrame(fireStateTime, true);
 
         float x0 = getPosition().x;
         float y0 = getPosition().y;
@@ -1,15 +1,18 @@
 package project.roguelike.rooms;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import project.roguelike.core.AssetRegistry;
 import project.roguelike.core.GameConfig;
 import project.roguelike.core.RoomContentPlan;
 import project.roguelike.core.RoomContentGenerator;
 import project.roguelike.entities.Player;
 
 public class EndRoom extends Room {
-    private static final Texture HATCH_TEXTURE = new Texture("textures/hatch.png");
+    private static final String HATCH_TEXTURE_PATH = "textures/hatch.png";
+
+    private final TextureRegion hatchRegion;
     private boolean onHatch = false;
 
     private final float hatchSize;
@@ -18,6 +21,7 @@ public class EndRoom extends Room {
 
     public EndRoom(Vector2 position, RoomShape shape) {
         super(position, shape);
+        this.hatchRegion = AssetRegistry.getRegion(HATCH_TEXTURE_PATH);
         this.hatchSize = GameConfig.TILE_SIZE;
         this.hatchX = getPosition().x + GameConfig.ROOM_WIDTH / 2f - hatchSize / 2f;
         this.hatchY = getPosition().y + GameConfig.ROOM_HEIGHT / 2f - hatchSize / 2f;
@@ -55,8 +59,8 @@ public class EndRoom extends Room {
     }
 
     @Override
-    public void render(SpriteBatch batch) {
-        super.render(batch);
-        batch.draw(HATCH_TEXTURE, hatchX, hatchY, hatchSize, hatchSize);
+    public void buildStaticGeometry(SpriteCache cache) {
+        super.buildStaticGeometry(cache);
+        cache.add(hatchRegion, hatchX, hatchY, hatchSize, hatchSize);
     }
 }
@@ -0,0 +1,184 @@
+package project.roguelike.rooms;
+
+import com.badlogic.gdx.math.Vector2;
+import java.util.Arrays;
+
+public class FlowField {
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+    private static final float DIAGONAL = (float) (1.0 / Math.sqrt(2.0));
+    private static final int[] STEP_X = { 0, 0, -1, 1, -1, 1, -1, 1 };
+    private static final int[] STEP_Y = { 1, -1, 0, 0, 1, 1, -1, -1 };
+    private static final int ORTHOGONAL_STEPS = 4;
+
+    private final float originX;
+    private final float originY;
+    private final float cellSize;
+    private final int cols;
+    private final int rows;
+    private final boolean[] blocked;
+    private final int[] distance;
+    private final int[] queue;
+    private final float[] directionX;
+    private final float[] directionY;
+
+    private int targetCell = -1;
+    private boolean dirty = true;
+    private int rebuildCount = 0;
+
+    public FlowField(float originX, float originY, float cellSize, int cols, int rows) {
+        this.originX = originX;
+        this.originY = originY;
+        this.cellSize = cellSize;
+        this.cols = Math.max(1, cols);
+        this.rows = Math.max(1, rows);
+
+        int size = this.cols * this.rows;
+        this.blocked = new boolean[size];
+        this.distance = new int[size];
+        this.queue = new int[size];
+        this.directionX = new float[size];
+        this.directionY = new float[size];
+    }
+
+    public void invalidate() {
+        dirty = true;
+    }
+
+    public void update(Room.CellType[][] grid, Vector2 target) {
+        int cell = toCell(toCol(target.x), toRow(target.y));
+        if (!dirty && cell == targetCell) {
+            return;
+        }
+
+        if (dirty) {
+            copyObstacles(grid);
+            dirty = false;
+        }
+        targetCell = cell;
+        computeDistances();
+        computeDirections();
+        rebuildCount++;
+    }
+
+    public boolean getDirection(float x, float y, Vector2 out) {
+        if (targetCell < 0) {
+            return false;
+        }
+
+        int col = (int) Math.floor((x - originX) / cellSize);
+        int row = (int) Math.floor((y - originY) / cellSize);
+        if (col < 0 || row < 0 || col >= cols || row >= rows) {
+            return false;
+        }
+
+        int cell = toCell(col, row);
+        if (cell == targetCell || distance[cell] == UNREACHABLE) {
+            return false;
+        }
+
+        out.set(directionX[cell], directionY[cell]);
+        return true;
+    }
+
+    public int getDistance(float x, float y) {
+        int cell = toCell(toCol(x), toRow(y));
+        return distance[cell];
+    }
+
+    public int getRebuildCount() {
+        return rebuildCount;
+    }
+
+    private void copyObstacles(Room.CellType[][] grid) {
+        for (int col = 0; col < cols; col++) {
+            for (int row = 0; row < rows; row++) {
+                Room.CellType type = grid[col][row];
+                blocked[toCell(col, row)] = type == Room.CellType.OBSTACLE || type == Room.CellType.WALL;
+            }
+        }
+    }
+
+    private void computeDistances() {
+        Arrays.fill(distance, UNREACHABLE);
+        int head = 0;
+        int tail = 0;
+        distance[targetCell] = 0;
+        queue[tail++] = targetCell;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int col = cell % cols;
+            int row = cell / cols;
+
+            for (int step = 0; step < ORTHOGONAL_STEPS; step++) {
+                int nextCol = col + STEP_X[step];
+                int nextRow = row + STEP_Y[step];
+                if (!isOpen(nextCol, nextRow)) {
+                    continue;
+                }
+
+                int next = toCell(nextCol, nextRow);
+                if (distance[next] == UNREACHABLE) {
+                    distance[next] = distance[cell] + 1;
+                    queue[tail++] = next;
+                }
+            }
+        }
+    }
+
+    private void computeDirections() {
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                int cell = toCell(col, row);
+                directionX[cell] = 0f;
+                directionY[cell] = 0f;
+
+                int best = distance[cell];
+                if (best == UNREACHABLE || best == 0) {
+                    continue;
+                }
+
+                for (int step = 0; step < STEP_X.length; step++) {
+                    int nextCol = col + STEP_X[step];
+                    int nextRow = row + STEP_Y[step];
+                    if (!isOpen(nextCol, nextRow)) {
+                        continue;
+                    }
+                    if (step >= ORTHOGONAL_STEPS && isCornerBlocked(col, row, step)) {
+                        continue;
+                    }
+
+                    int candidate = distance[toCell(nextCol, nextRow)];
+                    if (candidate < best) {
+                        best = candidate;
+                        float scale = step >= ORTHOGONAL_STEPS ? DIAGONAL : 1f;
+                        directionX[cell] = STEP_X[step] * scale;
+                        directionY[cell] = STEP_Y[step] * scale;
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean isCornerBlocked(int col, int row, int step) {
+        return !isOpen(col + STEP_X[step], row) || !isOpen(col, row + STEP_Y[step]);
+    }
+
+    private boolean isOpen(int col, int row) {
+        return col >= 0 && row >= 0 && col < cols && row < rows && !blocked[toCell(col, row)];
+    }
+
+    private int toCell(int col, int row) {
+        return row * cols + col;
+    }
+
+    private int toCol(float x) {
+        int col = (int) Math.floor((x - originX) / cellSize);
+        return Math.max(0, Math.min(cols - 1, col));
+    }
+
+    private int toRow(float y) {
+        int row = (int) Math.floor((y - originY) / cellSize);
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+}
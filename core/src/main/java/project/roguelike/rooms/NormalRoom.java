@@ -6,7 +6,6 @@ import project.roguelike.core.RoomContentPlan;
 import java.util.Random;
 
 public class NormalRoom extends Room {
-    private static final Random random = new Random();
     private static final int MIN_ENEMIES = 2;
     private static final int MAX_ENEMIES = 8;
 
@@ -20,18 +19,18 @@ public class NormalRoom extends Room {
             return;
         }
 
-        RoomContentPlan plan = createContentPlan();
+        RoomContentPlan plan = createContentPlan(contentRandom());
         RoomContentGenerator.generate(this, plan);
         setContentGenerated(true);
     }
 
-    private RoomContentPlan createContentPlan() {
+    private RoomContentPlan createContentPlan(Random random) {
         RoomContentPlan plan = new RoomContentPlan();
-        addRandomEnemies(plan);
+        addRandomEnemies(plan, random);
         return plan;
     }
 
-    private void addRandomEnemies(RoomContentPlan plan) {
+    private void addRandomEnemies(RoomContentPlan plan, Random random) {
         plan.minEnemies = MIN_ENEMIES;
         plan.maxEnemies = MAX_ENEMIES;
 
@@ -1,19 +1,23 @@
 package project.roguelike.rooms;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.Texture.TextureWrap;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import project.roguelike.core.AssetRegistry;
 import project.roguelike.core.GameConfig;
+import project.roguelike.core.GameRandom;
 import project.roguelike.entities.Bullet;
 import project.roguelike.entities.Chest;
 import project.roguelike.entities.Enemy;
+import project.roguelike.entities.EnemyCrowd;
 import project.roguelike.entities.Player;
 import project.roguelike.entities.Trap;
 import project.roguelike.items.Item;
@@ -26,21 +30,19 @@ public abstract class Room {
     private static final float DOOR_PULSE_DURATION = 2000f;
     private static final float DOOR_BASE_ALPHA = 0.5f;
     private static final float DOOR_PULSE_ALPHA = 0.5f;
+    private static final int ANIMATION_FRAME_SIZE = 16;
+    private static final float ANIMATION_FRAME_DURATION = 0.15f;
 
-    private final Texture floor, wallTop, wallRight, doorUp, doorRight;
-    private final Texture torchHorizontal;
-    private final Texture torchVertical;
     private final Animation<TextureRegion> torchHorizontalAnimation;
     private final Animation<TextureRegion> torchVerticalAnimation;
     private float torchStateTime = 0f;
 
-    private final Texture bannerTexture;
     private final Animation<TextureRegion> bannerAnimation;
     private float bannerStateTime = 0f;
 
-    private final TextureRegion floorRegion, wallTopRegion, wallBottomRegion;
-    private final TextureRegion wallLeftRegion, wallRightRegion;
-    private final TextureRegion doorUpRegion, doorDownRegion, doorLeftRegion, doorRightRegion;
+    private TextureRegion floorRegion, wallTopRegion, wallBottomRegion;
+    private TextureRegion wallLeftRegion, wallRightRegion;
+    private TextureRegion doorUpRegion, doorDownRegion, doorLeftRegion, doorRightRegion;
 
     private final Vector2 position;
     private final RoomShape shape;
@@ -50,6 +52,14 @@ public abstract class Room {
     private final List<Item> items;
     private final List<Chest> chests;
     private final List<Trap> traps;
+    private final SpatialGrid enemyGrid;
+    private final FlowField flowField;
+    private final AiScheduler aiScheduler = new AiScheduler();
+    private EnemyCrowd crowd;
+    private final IntArray gridCandidates = new IntArray();
+    private final Rectangle tmpDoorArea = new Rectangle();
+    private final Rectangle sweptBulletArea = new Rectangle();
+    private float bulletHitTime;
 
     private final float wallThickness = GameConfig.WALL_THICKNESS;
     private final float roomWidth = GameConfig.ROOM_WIDTH;
@@ -62,6 +72,7 @@ public abstract class Room {
 
     private int gridRow = -1;
     private int gridCol = -1;
+    private long contentSeed = 0L;
     private boolean contentGenerated = false;
     private DoorDirection activeDoor = null;
     private GameStatistics statistics;
@@ -88,28 +99,7 @@ public abstract class Room {
     public Room(Vector2 position, RoomShape shape) {
         this.position = position;
         this.shape = shape;
-
-        this.floor = loadTexture("textures/floor.png");
-        this.wallTop = loadTexture("textures/wall_top.png");
-        this.wallRight = loadTexture("textures/wall_right.png");
-        this.doorUp = loadTexture("textures/door_up.png");
-        this.doorRight = loadTexture("textures/door_right.png");
-        this.torchHorizontal = loadTexture("textures/torch_horizontal.png");
-        this.torchVertical = loadTexture("textures/torch_vertical.png");
-
-        this.floorRegion = new TextureRegion(floor);
-        this.wallTopRegion = new TextureRegion(wallTop);
-        this.wallBottomRegion = new TextureRegion(wallTop);
-        this.wallLeftRegion = new TextureRegion(wallRight);
-        this.wallRightRegion = new TextureRegion(wallRight);
-        this.doorUpRegion = new TextureRegion(doorUp);
-        this.doorDownRegion = new TextureRegion(doorUp);
-        this.doorLeftRegion = new TextureRegion(doorRight);
-        this.doorRightRegion = new TextureRegion(doorRight);
-
         this.doors = initializeDoors(shape);
-        initializeRegions();
-        flipRegions();
 
         this.enemies = new ArrayList<>();
         this.items = new ArrayList<>();
@@ -117,20 +107,38 @@ public abstract class Room {
         this.traps = new ArrayList<>();
         this.grid = new CellType[innerGridWidth][innerGridHeight];
         initializeGrid();
+        this.enemyGrid = new SpatialGrid(position.x, position.y, tileSize, innerGridWidth, innerGridHeight);
+        this.flowField = new FlowField(position.x, position.y, tileSize, innerGridWidth, innerGridHeight);
 
-        this.bannerTexture = loadTexture("textures/banner.png");
-        TextureRegion[][] bannerFrames = TextureRegion.split(bannerTexture, 16, 16);
-        this.bannerAnimation = new Animation<>(0.15f, bannerFrames[0]);
+        this.bannerAnimation = loadAnimation("textures/banner.png");
+        this.torchHorizontalAnimation = loadAnimation("textures/torch_horizontal.png");
+        this.torchVerticalAnimation = loadAnimation("textures/torch_vertical.png");
+    }
 
-        TextureRegion[][] torchHFrames = TextureRegion.split(torchHorizontal, 16, 16);
-        this.torchHorizontalAnimation = new Animation<>(0.15f, torchHFrames[0]);
-        TextureRegion[][] torchVFrames = TextureRegion.split(torchVertical, 16, 16);
-        this.torchVerticalAnimation = new Animation<>(0.15f, torchVFrames[0]);
+    public void buildStaticGeometry(SpriteCache cache) {
+        if (floorRegion == null) {
+            initializeView();
+        }
+
+        cache.add(floorRegion, position.x, position.y, roomWidth, roomHeight);
+        cache.add(wallTopRegion, position.x, position.y + roomHeight, roomWidth, wallThickness);
+        cache.add(wallBottomRegion, position.x, position.y - wallThickness, roomWidth, wallThickness);
+        cache.add(wallLeftRegion, position.x - wallThickness / 2f, position.y - wallThickness,
+                wallThickness / 2f, roomHeight + wallThickness * 2f);
+        cache.add(wallRightRegion, position.x + roomWidth, position.y - wallThickness,
+                wallThickness / 2f, roomHeight + wallThickness * 2f);
+
+        for (DoorDirection door : doors) {
+            Rectangle area = getDoorDrawArea(door, tmpDoorArea);
+            cache.add(getDoorRegion(door), area.x, area.y, area.width, area.height);
+        }
     }
 
     public void render(SpriteBatch batch) {
-        renderFloor(batch);
-        renderWalls(batch);
+        if (floorRegion == null) {
+            initializeView();
+        }
+
         renderDoors(batch);
         renderEnemies(batch);
         renderItems(batch);
@@ -139,7 +147,17 @@ public abstract class Room {
         renderTraps(batch);
     }
 
+    public void interpolate(float alpha) {
+        for (int i = 0; i < enemies.size(); i++) {
+            enemies.get(i).interpolate(alpha);
+        }
+        if (crowd != null) {
+            crowd.interpolate(alpha);
+        }
+    }
+
     public void update(float delta, Player player) {
+        updateFlowField(player);
         updateEnemies(delta, player);
         updateItems(delta);
         torchStateTime += delta;
@@ -149,6 +167,12 @@ public abstract class Room {
         updateTraps(delta, player);
     }
 
+    private void updateFlowField(Player player) {
+        if (player != null && (!enemies.isEmpty() || getCrowdCount() > 0)) {
+            flowField.update(grid, player.getPosition());
+        }
+    }
+
     private void updateChests(float delta) {
         for (Chest chest : chests) {
             chest.update(delta);
@@ -183,13 +207,14 @@ public abstract class Room {
     public void activate() {
         active = true;
 
-        if (initialEnemyCount == 0 && !enemies.isEmpty()) {
-            initialEnemyCount = enemies.size();
+        if (initialEnemyCount == 0) {
+            initialEnemyCount = enemies.size() + getCrowdCount();
         }
 
         for (Enemy enemy : enemies) {
             enemy.activate(this);
         }
+        rebuildEnemyGrid();
     }
 
     public void deactivate() {
@@ -200,14 +225,6 @@ public abstract class Room {
     }
 
     public void dispose() {
-        floor.dispose();
-        wallTop.dispose();
-        wallRight.dispose();
-        doorUp.dispose();
-        doorRight.dispose();
-        torchHorizontal.dispose();
-        torchVertical.dispose();
-        bannerTexture.dispose();
     }
 
     public abstract void generateContentIfNeeded();
@@ -266,9 +283,12 @@ public abstract class Room {
     }
 
     private Texture loadTexture(String path) {
-        Texture texture = new Texture(path);
-        texture.setWrap(TextureWrap.Repeat, TextureWrap.Repeat);
-        return texture;
+        return AssetRegistry.getRepeatingTexture(path);
+    }
+
+    private Animation<TextureRegion> loadAnimation(String path) {
+        return AssetRegistry.getAnimation(path, ANIMATION_FRAME_SIZE, ANIMATION_FRAME_SIZE,
+                ANIMATION_FRAME_DURATION, Animation.PlayMode.NORMAL);
     }
 
     private List<DoorDirection> initializeDoors(RoomShape shape) {
@@ -342,6 +362,27 @@ public abstract class Room {
         return doorList;
     }
 
+    private void initializeView() {
+        Texture floor = loadTexture("textures/floor.png");
+        Texture wallTop = loadTexture("textures/wall_top.png");
+        Texture wallRight = loadTexture("textures/wall_right.png");
+        Texture doorUp = loadTexture("textures/door_up.png");
+        Texture doorRight = loadTexture("textures/door_right.png");
+
+        this.floorRegion = new TextureRegion(floor);
+        this.wallTopRegion = new TextureRegion(wallTop);
+        this.wallBottomRegion = new TextureRegion(wallTop);
+        this.wallLeftRegion = new TextureRegion(wallRight);
+        this.wallRightRegion = new TextureRegion(wallRight);
+        this.doorUpRegion = new TextureRegion(doorUp);
+        this.doorDownRegion = new TextureRegion(doorUp);
+        this.doorLeftRegion = new TextureRegion(doorRight);
+        this.doorRightRegion = new TextureRegion(doorRight);
+
+        initializeRegions();
+        flipRegions();
+    }
+
     private void initializeRegions() {
         float floorScaleX = roomWidth / tileSize;
         float floorScaleY = roomHeight / tileSize;
@@ -378,19 +419,6 @@ public abstract class Room {
         }
     }
 
-    private void renderFloor(SpriteBatch batch) {
-        batch.draw(floorRegion, position.x, position.y, roomWidth, roomHeight);
-    }
-
-    private void renderWalls(SpriteBatch batch) {
-        batch.draw(wallTopRegion, position.x, position.y + roomHeight, roomWidth, wallThickness);
-        batch.draw(wallBottomRegion, position.x, position.y - wallThickness, roomWidth, wallThickness);
-        batch.draw(wallLeftRegion, position.x - wallThickness / 2f, position.y - wallThickness,
-                wallThickness / 2f, roomHeight + wallThickness * 2f);
-        batch.draw(wallRightRegion, position.x + roomWidth, position.y - wallThickness,
-                wallThickness / 2f, roomHeight + wallThickness * 2f);
-    }
-
     private void renderDoors(SpriteBatch batch) {
         for (DoorDirection door : doors) {
             renderDoor(batch, door);
@@ -398,104 +426,93 @@ public abstract class Room {
     }
 
     private void renderDoor(SpriteBatch batch, DoorDirection direction) {
-        boolean isActive = (activeDoor == direction);
-        TextureRegion region;
-        float x, y, width, height;
+        Rectangle area = getDoorDrawArea(direction, tmpDoorArea);
 
         switch (direction) {
             case UP:
-                region = doorUpRegion;
-                x = position.x + roomWidth / 2f - doorWidth / 2f;
-                y = position.y + roomHeight;
-                width = doorWidth;
-                height = wallThickness;
-                renderTorchPair(batch, torchHorizontal,
-                        x + doorWidth / 2f, y + height / 2f, true, false);
+                renderTorchPair(batch, area.x + area.width / 2f, area.y + area.height / 2f, true, false);
                 break;
-
             case DOWN:
-                region = doorDownRegion;
-                x = position.x + roomWidth / 2f - doorWidth / 2f;
-                y = position.y - wallThickness;
-                width = doorWidth;
-                height = wallThickness;
-                renderTorchPair(batch, torchHorizontal,
-                        x + doorWidth / 2f, y + height / 2f, true, true);
+                renderTorchPair(batch, area.x + area.width / 2f, area.y + area.height / 2f, true, true);
                 break;
-
             case LEFT:
-                region = doorLeftRegion;
-                x = position.x - wallThickness / 2f;
-                y = position.y + roomHeight / 2f - doorWidth / 2f;
-                width = wallThickness / 2f;
-                height = doorWidth;
-                renderTorchPair(batch, torchVertical,
-                        x + width * 2, y + doorWidth / 2f, false, false);
+                renderTorchPair(batch, area.x + area.width * 2, area.y + area.height / 2f, false, false);
                 break;
-
             case RIGHT:
-                region = doorRightRegion;
-                x = position.x + roomWidth;
-                y = position.y + roomHeight / 2f - doorWidth / 2f;
-                width = wallThickness / 2f;
-                height = doorWidth;
-                renderTorchPair(batch, torchVertical,
-                        x - width, y + doorWidth / 2f, false, true);
+                renderTorchPair(batch, area.x - area.width, area.y + area.height / 2f, false, true);
                 break;
+        }
 
-            default:
-                return;
+        if (activeDoor == direction) {
+            drawDoorOverlay(batch, getDoorRegion(direction), area.x, area.y, area.width, area.height);
         }
+    }
 
-        batch.draw(region, x, y, width, height);
+    private Rectangle getDoorDrawArea(DoorDirection direction, Rectangle out) {
+        switch (direction) {
+            case UP:
+                return out.set(position.x + roomWidth / 2f - doorWidth / 2f, position.y + roomHeight,
+                        doorWidth, wallThickness);
+            case DOWN:
+                return out.set(position.x + roomWidth / 2f - doorWidth / 2f, position.y - wallThickness,
+                        doorWidth, wallThickness);
+            case LEFT:
+                return out.set(position.x - wallThickness / 2f, position.y + roomHeight / 2f - doorWidth / 2f,
+                        wallThickness / 2f, doorWidth);
+            case RIGHT:
+                return out.set(position.x + roomWidth, position.y + roomHeight / 2f - doorWidth / 2f,
+                        wallThickness / 2f, doorWidth);
+        }
+        return out;
+    }
 
-        if (isActive) {
-            drawDoorOverlay(batch, region, x, y, width, height);
+    private TextureRegion getDoorRegion(DoorDirection direction) {
+        switch (direction) {
+            case UP:
+                return doorUpRegion;
+            case DOWN:
+                return doorDownRegion;
+            case LEFT:
+                return doorLeftRegion;
+            case RIGHT:
+                return doorRightRegion;
         }
+        return null;
     }
 
-    private void renderTorchPair(SpriteBatch batch, Texture torchTexture,
-            float centerX, float centerY, boolean isHorizontal, boolean flipTorches) {
+    private void renderTorchPair(SpriteBatch batch, float centerX, float centerY,
+            boolean isHorizontal, boolean flipTorches) {
         float torchOffset = tileSize * 1.5f;
         Animation<TextureRegion> animation = isHorizontal ? torchHorizontalAnimation : torchVerticalAnimation;
         TextureRegion frame = animation.getKeyFrame(torchStateTime, true);
 
-        TextureRegion leftFrame = new TextureRegion(frame);
-        TextureRegion rightFrame = new TextureRegion(frame);
-
         if (isHorizontal) {
-            if (flipTorches) {
-                leftFrame.flip(false, true);
-                rightFrame.flip(true, true);
-            } else {
-                rightFrame.flip(true, false);
-            }
-            batch.draw(leftFrame,
+            float leftScaleY = flipTorches ? -1f : 1f;
+            drawFlipped(batch, frame,
                     centerX - torchOffset - tileSize / 2f,
                     centerY - tileSize / 2f,
-                    tileSize, tileSize);
-            batch.draw(rightFrame,
+                    1f, leftScaleY);
+            drawFlipped(batch, frame,
                     centerX + torchOffset - tileSize / 2f,
                     centerY - tileSize / 2f,
-                    tileSize, tileSize);
+                    -1f, leftScaleY);
         } else {
-            if (flipTorches) {
-                leftFrame.flip(true, false);
-                rightFrame.flip(true, true);
-            } else {
-                rightFrame.flip(false, true);
-            }
-            batch.draw(leftFrame,
+            float topScaleX = flipTorches ? -1f : 1f;
+            drawFlipped(batch, frame,
                     centerX - tileSize / 2f,
                     centerY + torchOffset - tileSize / 2f,
-                    tileSize, tileSize);
-            batch.draw(rightFrame,
+                    topScaleX, 1f);
+            drawFlipped(batch, frame,
                     centerX - tileSize / 2f,
                     centerY - torchOffset - tileSize / 2f,
-                    tileSize, tileSize);
+                    topScaleX, -1f);
         }
     }
 
+    private void drawFlipped(SpriteBatch batch, TextureRegion frame, float x, float y, float scaleX, float scaleY) {
+        batch.draw(frame, x, y, tileSize / 2f, tileSize / 2f, tileSize, tileSize, scaleX, scaleY, 0f);
+    }
+
     private void drawDoorOverlay(SpriteBatch batch, TextureRegion doorRegion, float x, float y, float width,
             float height) {
         float time = (System.currentTimeMillis() % (long) DOOR_PULSE_DURATION) / DOOR_PULSE_DURATION;
@@ -512,6 +529,9 @@ public abstract class Room {
                 enemy.render(batch);
             }
         }
+        if (crowd != null) {
+            crowd.render(batch);
+        }
     }
 
     private void renderItems(SpriteBatch batch) {
@@ -534,11 +554,8 @@ public abstract class Room {
         batch.draw(bannerFrame, xRight, yWallTop, bannerSize, bannerSize);
 
         float yWallBottom = getPosition().y - GameConfig.TILE_SIZE - GameConfig.TILE_SIZE / 4f;
-        TextureRegion flippedBanner = new TextureRegion(bannerFrame);
-        flippedBanner.flip(false, true);
-
-        batch.draw(flippedBanner, xLeft, yWallBottom, bannerSize, bannerSize);
-        batch.draw(flippedBanner, xRight, yWallBottom, bannerSize, bannerSize);
+        drawFlipped(batch, bannerFrame, xLeft, yWallBottom, 1f, -1f);
+        drawFlipped(batch, bannerFrame, xRight, yWallBottom, 1f, -1f);
     }
 
     private Rectangle createDoorBounds(float x, float y, float width, float height) {
@@ -550,33 +567,103 @@ public abstract class Room {
     }
 
     private void updateEnemies(float delta, Player player) {
-        Iterator<Enemy> iter = enemies.iterator();
-        while (iter.hasNext()) {
-            Enemy enemy = iter.next();
-            if (!enemy.isActive()) {
+        boolean hasTarget = player != null;
+        aiScheduler.beginTick();
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy.isActive()) {
+                enemy.setThinking(aiScheduler.shouldThink(enemy, i, hasTarget));
+                enemy.update(delta, player);
+            }
+        }
+
+        removeDeadEnemies();
+        rebuildEnemyGrid();
+        if (crowd != null) {
+            crowd.update(delta, player);
+        }
+        checkBulletCollisions(player);
+    }
+
+    private void rebuildEnemyGrid() {
+        enemyGrid.clear();
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy.isActive() && !enemy.isDead()) {
+                enemyGrid.insert(i, enemy.getBounds());
+            }
+        }
+    }
+
+    private void checkBulletCollisions(Player player) {
+        List<Bullet> bullets = player.getBullets();
+        for (int i = 0; i < bullets.size(); i++) {
+            Bullet bullet = bullets.get(i);
+            if (!bullet.isActive()) {
                 continue;
             }
 
-            enemy.update(delta, player);
-            checkBulletCollisions(enemy, player);
+            Vector2 from = bullet.getPreviousPosition();
+            Vector2 to = bullet.getPosition();
+            float halfWidth = bullet.getBounds().width / 2f;
+            float halfHeight = bullet.getBounds().height / 2f;
+            sweptBulletArea.set(
+                    Math.min(from.x, to.x) - halfWidth,
+                    Math.min(from.y, to.y) - halfHeight,
+                    Math.abs(to.x - from.x) + halfWidth * 2f,
+                    Math.abs(to.y - from.y) + halfHeight * 2f);
+
+            Enemy target = findBulletTarget(from, to, halfWidth, halfHeight);
+            int crowdHandle = crowd != null ? crowd.findFirstHit(from, to, halfWidth, halfHeight) : -1;
+
+            if (crowdHandle >= 0 && (target == null || crowd.getLastHitTime() < bulletHitTime)) {
+                bullet.hitCrowd(crowd, crowdHandle);
+            } else if (target != null) {
+                bullet.hitEnemy(target);
+            }
+        }
+    }
+
+    private Enemy findBulletTarget(Vector2 from, Vector2 to, float halfWidth, float halfHeight) {
+        enemyGrid.query(sweptBulletArea, gridCandidates);
 
-            if (enemy.isDead()) {
-                onEnemyDeath(enemy);
-                iter.remove();
+        int targetIndex = -1;
+        float targetTime = Float.MAX_VALUE;
+        for (int i = 0; i < gridCandidates.size; i++) {
+            int index = gridCandidates.get(i);
+            Rectangle bounds = enemies.get(index).getBounds();
+            float time = SegmentSweep.entryTime(from.x, from.y, to.x, to.y,
+                    bounds.x - halfWidth, bounds.y - halfHeight,
+                    bounds.x + bounds.width + halfWidth, bounds.y + bounds.height + halfHeight);
+            if (time == SegmentSweep.NO_HIT) {
+                continue;
+            }
+            if (time < targetTime || (time == targetTime && index < targetIndex)) {
+                targetTime = time;
+                targetIndex = index;
             }
         }
+
+        bulletHitTime = targetTime;
+        return targetIndex != -1 ? enemies.get(targetIndex) : null;
     }
 
-    private void checkBulletCollisions(Enemy enemy, Player player) {
-        for (Bullet bullet : player.getBullets()) {
-            if (bullet.isActive() && bullet.getBounds().overlaps(enemy.getBounds())) {
-                bullet.hitEnemy(enemy);
+    private void removeDeadEnemies() {
+        for (int i = enemies.size() - 1; i >= 0; i--) {
+            Enemy enemy = enemies.get(i);
+            if (enemy.isActive() && enemy.isDead()) {
+                onEnemyDeath(enemy);
+                enemies.remove(i);
             }
         }
     }
 
+    public void queryNearbyEnemies(Rectangle area, IntArray out) {
+        enemyGrid.query(area, out);
+    }
+
     private void checkRoomCleared() {
-        if (!roomClearedReported && initialEnemyCount > 0 && enemies.isEmpty()) {
+        if (!roomClearedReported && initialEnemyCount > 0 && enemies.isEmpty() && getCrowdCount() == 0) {
             roomClearedReported = true;
             if (statistics != null) {
                 statistics.onRoomCleared();
@@ -605,6 +692,18 @@ public abstract class Room {
         return gridCol;
     }
 
+    public void setContentSeed(long contentSeed) {
+        this.contentSeed = contentSeed;
+    }
+
+    public long getContentSeed() {
+        return contentSeed;
+    }
+
+    protected Random contentRandom() {
+        return GameRandom.reseed(GameRandom.Stream.SPAWNS, contentSeed);
+    }
+
     public List<DoorDirection> getDoors() {
         return doors;
     }
@@ -625,6 +724,18 @@ public abstract class Room {
         return active;
     }
 
+    public AiScheduler getAiScheduler() {
+        return aiScheduler;
+    }
+
+    public FlowField getFlowField() {
+        return flowField;
+    }
+
+    public void markGridChanged() {
+        flowField.invalidate();
+    }
+
     public CellType[][] getGrid() {
         return grid;
     }
@@ -638,7 +749,24 @@ public abstract class Room {
     }
 
     public boolean hasAliveEnemies() {
-        return enemies.stream().anyMatch(e -> e.isActive() && !e.isDead());
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy.isActive() && !enemy.isDead()) {
+                return true;
+            }
+        }
+        return crowd != null && crowd.getAliveCount() > 0;
+    }
+
+    public EnemyCrowd getCrowd() {
+        if (crowd == null) {
+            crowd = new EnemyCrowd(this);
+        }
+        return crowd;
+    }
+
+    private int getCrowdCount() {
+        return crowd != null ? crowd.getCount() : 0;
     }
 
     public void setStatistics(GameStatistics statistics) {
@@ -0,0 +1,41 @@
+package project.roguelike.rooms;
+
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.math.Matrix4;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RoomGeometryCache {
+    private static final int MAX_SPRITES_PER_ROOM = 16;
+
+    private final SpriteCache cache;
+    private final Map<Room, Integer> cacheIds = new HashMap<>();
+
+    public RoomGeometryCache(List<Room> rooms) {
+        this.cache = new SpriteCache(Math.max(1, rooms.size()) * MAX_SPRITES_PER_ROOM, false);
+
+        for (Room room : rooms) {
+            cache.beginCache();
+            room.buildStaticGeometry(cache);
+            cacheIds.put(room, cache.endCache());
+        }
+    }
+
+    public void render(Matrix4 projection, Room room) {
+        Integer id = cacheIds.get(room);
+        if (id == null) {
+            return;
+        }
+
+        cache.setProjectionMatrix(projection);
+        cache.begin();
+        cache.draw(id);
+        cache.end();
+    }
+
+    public void dispose() {
+        cache.dispose();
+        cacheIds.clear();
+    }
+}
@@ -0,0 +1,56 @@
+package project.roguelike.rooms;
+
+public final class SegmentSweep {
+    public static final float NO_HIT = -1f;
+
+    private SegmentSweep() {
+    }
+
+    public static float entryTime(float fromX, float fromY, float toX, float toY,
+            float minX, float minY, float maxX, float maxY) {
+        float entry = 0f;
+        float exit = 1f;
+
+        float dx = toX - fromX;
+        if (dx == 0f) {
+            if (fromX < minX || fromX > maxX) {
+                return NO_HIT;
+            }
+        } else {
+            float near = (minX - fromX) / dx;
+            float far = (maxX - fromX) / dx;
+            if (near > far) {
+                float swap = near;
+                near = far;
+                far = swap;
+            }
+            entry = Math.max(entry, near);
+            exit = Math.min(exit, far);
+            if (entry > exit) {
+                return NO_HIT;
+            }
+        }
+
+        float dy = toY - fromY;
+        if (dy == 0f) {
+            if (fromY < minY || fromY > maxY) {
+                return NO_HIT;
+            }
+        } else {
+            float near = (minY - fromY) / dy;
+            float far = (maxY - fromY) / dy;
+            if (near > far) {
+                float swap = near;
+                near = far;
+                far = swap;
+            }
+            entry = Math.max(entry, near);
+            exit = Math.min(exit, far);
+            if (entry > exit) {
+                return NO_HIT;
+            }
+        }
+
+        return entry;
+    }
+}
@@ -6,6 +6,7 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Vector2;
+import project.roguelike.core.AssetRegistry;
 import project.roguelike.core.GameConfig;
 import project.roguelike.entities.Player;
 import project.roguelike.items.Item;
@@ -24,23 +25,23 @@ public class ShopRoom extends Room {
     private final List<Item> shopItems = new ArrayList<>();
     public final List<Integer> itemPrices = new ArrayList<>();
     private final List<Float> itemAnimTimes = new ArrayList<>();
-    private final BitmapFont font = new BitmapFont();
+    private BitmapFont font;
 
     private static final int CANDLE_FRAME_WIDTH = 16;
     private static final int CANDLE_FRAME_HEIGHT = 16;
     private static final float CANDLE_FRAME_DURATION = 0.15f;
-    private static final Texture CANDLE_TEXTURE = new Texture("textures/candlestick.png");
-    private static final Animation<TextureRegion> CANDLE_ANIMATION;
-    static {
-        TextureRegion[][] tmp = TextureRegion.split(CANDLE_TEXTURE, CANDLE_FRAME_WIDTH, CANDLE_FRAME_HEIGHT);
-        CANDLE_ANIMATION = new Animation<>(CANDLE_FRAME_DURATION, tmp[0]);
-    }
-    private float candleStateTime = 0f;
+    private static final String CANDLE_TEXTURE_PATH = "textures/candlestick.png";
+    private static final String CARPET_TEXTURE_PATH = "textures/shop_carpet.png";
 
-    private static final Texture CARPET_TEXTURE = new Texture("textures/shop_carpet.png");
+    private final Animation<TextureRegion> candleAnimation;
+    private final Texture carpetTexture;
+    private float candleStateTime = 0f;
 
     public ShopRoom(Vector2 position, RoomShape shape) {
         super(position, shape);
+        this.candleAnimation = AssetRegistry.getAnimation(CANDLE_TEXTURE_PATH, CANDLE_FRAME_WIDTH,
+                CANDLE_FRAME_HEIGHT, CANDLE_FRAME_DURATION, Animation.PlayMode.NORMAL);
+        this.carpetTexture = AssetRegistry.getRepeatingTexture(CARPET_TEXTURE_PATH);
     }
 
     @Override
@@ -49,7 +50,7 @@ public class ShopRoom extends Room {
             float centerX = getPosition().x + GameConfig.ROOM_WIDTH / 2f;
             float centerY = getPosition().y + GameConfig.ROOM_HEIGHT / 2f;
 
-            Random rand = new Random();
+            Random rand = contentRandom();
             int generated = 0;
             List<String> weaponIds = new ArrayList<>();
             List<String> activeIds = new ArrayList<>();
@@ -61,7 +62,7 @@ public class ShopRoom extends Room {
 
                 Item item;
                 do {
-                    item = ItemFactory.createRandomItem(pos);
+                    item = ItemFactory.createRandomItem(pos, rand);
                 } while (item == null ||
                         item.getType() == Item.ItemType.CURRENCY ||
                         (item.getType() == Item.ItemType.WEAPON && weaponIds.contains(item.getId())) ||
@@ -112,9 +113,12 @@ public class ShopRoom extends Room {
     @Override
     public void render(SpriteBatch batch) {
         super.render(batch);
+        if (font == null) {
+            font = new BitmapFont();
+        }
 
         float candleSize = GameConfig.TILE_SIZE;
-        TextureRegion candleFrame = CANDLE_ANIMATION.getKeyFrame(candleStateTime, true);
+        TextureRegion candleFrame = candleAnimation.getKeyFrame(candleStateTime, true);
 
         float x0 = getPosition().x;
         float y0 = getPosition().y;
@@ -138,13 +142,7 @@ public class ShopRoom extends Room {
             float shelfX = item.getPosition().x - shelfWidth / 2f;
             float shelfY = item.getPosition().y + shelfYOffset;
 
-            CARPET_TEXTURE.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
-            TextureRegion shelfRegion = new TextureRegion(CARPET_TEXTURE);
-            float u2 = shelfWidth / GameConfig.TILE_SIZE;
-            float v2 = shelfHeight / GameConfig.TILE_SIZE;
-            shelfRegion.setRegion(0, 0, u2, v2);
-
-            batch.draw(shelfRegion, shelfX, shelfY, shelfWidth, shelfHeight);
+            batch.draw(carpetTexture, shelfX, shelfY, shelfWidth, shelfHeight);
         }
 
         float labelY = getPosition().y + GameConfig.ROOM_HEIGHT / 2f + GameConfig.TILE_SIZE / 2f;
@@ -168,6 +166,15 @@ public class ShopRoom extends Room {
         }
     }
 
+    @Override
+    public void dispose() {
+        super.dispose();
+        if (font != null) {
+            font.dispose();
+            font = null;
+        }
+    }
+
     public List<Item> getShopItems() {
         return shopItems;
     }
@@ -0,0 +1,130 @@
+package project.roguelike.rooms;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+import java.util.Arrays;
+
+public class SpatialGrid {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final float originX;
+    private final float originY;
+    private final float cellSize;
+    private final int cols;
+    private final int rows;
+    private final int[] cellHeads;
+
+    private int[] entryNext = new int[INITIAL_CAPACITY];
+    private int[] entryValue = new int[INITIAL_CAPACITY];
+    private int entryCount = 0;
+
+    private int[] visitStamps = new int[INITIAL_CAPACITY];
+    private int currentStamp = 0;
+
+    public SpatialGrid(float originX, float originY, float cellSize, int cols, int rows) {
+        this.originX = originX;
+        this.originY = originY;
+        this.cellSize = cellSize;
+        this.cols = Math.max(1, cols);
+        this.rows = Math.max(1, rows);
+        this.cellHeads = new int[this.cols * this.rows];
+        clear();
+    }
+
+    public void clear() {
+        Arrays.fill(cellHeads, -1);
+        entryCount = 0;
+    }
+
+    public void insert(int value, Rectangle bounds) {
+        insert(value, bounds.x, bounds.y, bounds.x + bounds.width, bounds.y + bounds.height);
+    }
+
+    public void insert(int value, float minX, float minY, float maxX, float maxY) {
+        ensureValueCapacity(value);
+
+        int fromCol = toCol(minX);
+        int toCol = toCol(maxX);
+        int fromRow = toRow(minY);
+        int toRow = toRow(maxY);
+
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int col = fromCol; col <= toCol; col++) {
+                addEntry(row * cols + col, value);
+            }
+        }
+    }
+
+    public void query(Rectangle bounds, IntArray out) {
+        query(bounds.x, bounds.y, bounds.x + bounds.width, bounds.y + bounds.height, out);
+    }
+
+    public void query(float minX, float minY, float maxX, float maxY, IntArray out) {
+        out.clear();
+        nextStamp();
+
+        int fromCol = toCol(minX);
+        int toCol = toCol(maxX);
+        int fromRow = toRow(minY);
+        int toRow = toRow(maxY);
+
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int col = fromCol; col <= toCol; col++) {
+                for (int entry = cellHeads[row * cols + col]; entry != -1; entry = entryNext[entry]) {
+                    int value = entryValue[entry];
+                    if (visitStamps[value] != currentStamp) {
+                        visitStamps[value] = currentStamp;
+                        out.add(value);
+                    }
+                }
+            }
+        }
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    private int toCol(float x) {
+        int col = (int) Math.floor((x - originX) / cellSize);
+        return Math.max(0, Math.min(cols - 1, col));
+    }
+
+    private int toRow(float y) {
+        int row = (int) Math.floor((y - originY) / cellSize);
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+
+    private void addEntry(int cell, int value) {
+        if (entryCount == entryNext.length) {
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+            entryValue = Arrays.copyOf(entryValue, entryCount * 2);
+        }
+        entryValue[entryCount] = value;
+        entryNext[entryCount] = cellHeads[cell];
+        cellHeads[cell] = entryCount;
+        entryCount++;
+    }
+
+    private void ensureValueCapacity(int value) {
+        if (value >= visitStamps.length) {
+            visitStamps = Arrays.copyOf(visitStamps, Math.max(value + 1, visitStamps.length * 2));
+        }
+    }
+
+    private void nextStamp() {
+        currentStamp++;
+        if (currentStamp == Integer.MAX_VALUE) {
+            Arrays.fill(visitStamps, 0);
+            currentStamp = 1;
+        }
+    }
+}
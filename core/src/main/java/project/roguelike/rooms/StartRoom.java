@@ -1,14 +1,18 @@
 package project.roguelike.rooms;
 
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.Vector2;
+import project.roguelike.core.AssetRegistry;
 import project.roguelike.core.GameConfig;
 import project.roguelike.core.RoomContentGenerator;
 import project.roguelike.core.RoomContentPlan;
 
 public class StartRoom extends Room {
-    private final Texture ladderTexture;
+    private static final String LADDER_TEXTURE_PATH = "textures/ladder.png";
+
+    private final TextureRegion ladderRegion;
     private final Vector2 ladderPosition;
     private final float ladderWidth;
     private final float ladderHeight;
@@ -16,16 +20,16 @@ public class StartRoom extends Room {
     public StartRoom(Vector2 position, RoomShape shape) {
         super(position, shape);
 
-        this.ladderTexture = new Texture("textures/ladder.png");
+        this.ladderRegion = AssetRegistry.getRegion(LADDER_TEXTURE_PATH);
         this.ladderHeight = GameConfig.TILE_SIZE;
         this.ladderWidth = calculateLadderWidth();
         this.ladderPosition = calculateLadderPosition();
     }
 
     @Override
-    public void render(SpriteBatch batch) {
-        super.render(batch);
-        renderLadder(batch);
+    public void buildStaticGeometry(SpriteCache cache) {
+        super.buildStaticGeometry(cache);
+        addLadder(cache);
     }
 
     @Override
@@ -39,14 +43,6 @@ public class StartRoom extends Room {
         setContentGenerated(true);
     }
 
-    @Override
-    public void dispose() {
-        super.dispose();
-        if (ladderTexture != null) {
-            ladderTexture.dispose();
-        }
-    }
-
     public Vector2 getSpawnPoint() {
         Vector2 pos = getPosition();
         return new Vector2(
@@ -55,7 +51,8 @@ public class StartRoom extends Room {
     }
 
     private float calculateLadderWidth() {
-        float aspectRatio = (float) ladderTexture.getWidth() / ladderTexture.getHeight();
+        GridPoint2 size = AssetRegistry.getTextureSize(LADDER_TEXTURE_PATH);
+        float aspectRatio = (float) size.x / size.y;
         return ladderHeight * aspectRatio;
     }
 
@@ -66,8 +63,8 @@ public class StartRoom extends Room {
                 pos.y + GameConfig.ROOM_HEIGHT / 2f - ladderHeight / 2f);
     }
 
-    private void renderLadder(SpriteBatch batch) {
-        batch.draw(ladderTexture,
+    private void addLadder(SpriteCache cache) {
+        cache.add(ladderRegion,
                 ladderPosition.x,
                 ladderPosition.y,
                 ladderWidth,
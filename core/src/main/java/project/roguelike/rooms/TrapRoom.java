@@ -7,7 +7,6 @@ import project.roguelike.core.RoomContentGenerator;
 import project.roguelike.core.RoomContentPlan;
 
 public class TrapRoom extends Room {
-    private static final Random random = new Random();
     private static final int MIN_ENEMIES = 2;
     private static final int MAX_ENEMIES = 5;
     private static final int MIN_TRAPS = 4;
@@ -24,9 +23,10 @@ public class TrapRoom extends Room {
         if (isContentGenerated())
             return;
 
+        Random random = contentRandom();
         contentPlan = createContentPlan();
-        addRandomEnemies(contentPlan);
-        addRandomTraps(contentPlan);
+        addRandomEnemies(contentPlan, random);
+        addRandomTraps(contentPlan, random);
 
         RoomContentGenerator.generate(this, contentPlan);
 
@@ -37,14 +37,14 @@ public class TrapRoom extends Room {
         return new RoomContentPlan();
     }
 
-    private void addRandomEnemies(RoomContentPlan plan) {
+    private void addRandomEnemies(RoomContentPlan plan, Random random) {
         int enemyCount = random.nextInt(MAX_ENEMIES - MIN_ENEMIES + 1) + MIN_ENEMIES;
         for (int i = 0; i < enemyCount; i++) {
             plan.enemies.add(new RoomContentPlan.EnemySpawn("goblin", null));
         }
     }
 
-    private void addRandomTraps(RoomContentPlan plan) {
+    private void addRandomTraps(RoomContentPlan plan, Random random) {
         int trapCount = random.nextInt(MAX_TRAPS - MIN_TRAPS + 1) + MIN_TRAPS;
         for (int i = 0; i < trapCount; i++) {
             plan.traps.add(new RoomContentPlan.TrapSpawn(null, 1));
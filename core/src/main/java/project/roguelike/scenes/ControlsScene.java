@@ -119,7 +119,9 @@ public class ControlsScene implements Scene {
     }
 
     private boolean isRemappable(InputAction action) {
-        return action != InputAction.SHOOT && action != InputAction.WEAPON_SCROLL;
+        return action != InputAction.SHOOT && action != InputAction.WEAPON_SCROLL
+                && action != InputAction.TOGGLE_PROFILER && action != InputAction.RECORD_PROFILER
+                && action != InputAction.SAVE_REPLAY;
     }
 
     private void loadTextures() {
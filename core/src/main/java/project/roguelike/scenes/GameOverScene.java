@@ -83,7 +83,7 @@ public class GameOverScene implements Scene {
         initializeFont();
         calculateButtonBounds();
 
-        SoundManager.playMusic(SoundManager.musicLoose, true);
+        SoundManager.playMusic(SoundManager.MUSIC_LOOSE, true);
     }
 
     @Override
@@ -186,7 +186,7 @@ public class GameOverScene implements Scene {
         if (Gdx.input.isButtonJustPressed(Input.Buttons.LEFT)) {
             if (playAgainHovered) {
                 SoundManager.playButtonClick();
-                SoundManager.playMusic(SoundManager.musicMenu, true);
+                SoundManager.playMusic(SoundManager.MUSIC_MENU, true);
                 restartGame();
                 return;
             }
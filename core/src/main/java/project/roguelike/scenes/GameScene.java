@@ -1,78 +1,91 @@
 package project.roguelike.scenes;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 
+import project.roguelike.core.GameConfig;
+import project.roguelike.core.GameRandom;
 import project.roguelike.core.GameStatistics;
 import project.roguelike.core.InputAction;
 import project.roguelike.core.InputManager;
+import project.roguelike.core.InputRecorder;
+import project.roguelike.core.InputReplay;
 import project.roguelike.core.SceneManager;
 import project.roguelike.core.WorldManager;
 import project.roguelike.entities.Player;
-import project.roguelike.levels.Layout1;
-import project.roguelike.levels.Layout2;
-import project.roguelike.levels.Layout3;
-import project.roguelike.levels.Layout4;
-import project.roguelike.levels.Layout5;
-import project.roguelike.levels.Layout6;
-import project.roguelike.levels.RoomData;
+import project.roguelike.levels.FloorPreloader;
+import project.roguelike.levels.PreparedFloor;
 
 public class GameScene implements Scene {
+    private static final String TAG = "GameScene";
+    private static final String REPLAY_DIRECTORY = "replays/";
+
     private final SceneManager sceneManager;
     private WorldManager world;
     private InputManager inputManager;
-    private RoomData[][][] layouts;
-    private int currentLayoutIdx = -1;
+    private final FloorPreloader floorPreloader = new FloorPreloader();
+    private final long runSeed;
+    private final InputRecorder inputRecorder;
+    private final InputReplay inputReplay;
+    private long currentSeed;
 
     public GameScene(SceneManager sceneManager) {
+        this(sceneManager, GameRandom.newRunSeed(), null);
+    }
+
+    public GameScene(SceneManager sceneManager, long runSeed) {
+        this(sceneManager, runSeed, null);
+    }
+
+    public GameScene(SceneManager sceneManager, InputReplay replay) {
+        this(sceneManager, replay.getRunSeed(), replay);
+    }
+
+    private GameScene(SceneManager sceneManager, long runSeed, InputReplay replay) {
         this.sceneManager = sceneManager;
+        this.runSeed = runSeed;
+        this.inputReplay = replay;
+        this.inputRecorder = replay == null ? new InputRecorder(runSeed) : null;
     }
 
     @Override
     public void create() {
-        layouts = new RoomData[][][] {
-                Layout1.layout,
-                Layout2.layout,
-                Layout3.layout,
-                Layout4.layout,
-                Layout5.layout,
-                Layout6.layout
-        };
+        GameRandom.seed(runSeed);
         startNewLevel(null);
         inputManager = sceneManager.getInputManager();
     }
 
     public void startNewLevel(Player existingPlayer) {
-        int nextIdx;
-        if (layouts.length == 1) {
-            nextIdx = 0;
-        } else {
-            do {
-                nextIdx = (int) (Math.random() * layouts.length);
-            } while (nextIdx == currentLayoutIdx);
+        if (!floorPreloader.isPreparing()) {
+            floorPreloader.prepare(nextFloorSeed());
         }
-        currentLayoutIdx = nextIdx;
+        PreparedFloor floor = floorPreloader.take();
+        currentSeed = floor.getSeed();
+        disposeWorld();
 
-        if (existingPlayer == null) {
-            world = new WorldManager(layouts[currentLayoutIdx], sceneManager);
-            world.create();
-            GameStatistics stats = world.getStatistics();
-            if (stats != null) {
+        world = new WorldManager(floor, sceneManager, existingPlayer);
+        world.create();
+        world.setInputRecorder(inputRecorder);
+        world.setInputReplay(inputReplay);
+        GameStatistics stats = world.getStatistics();
+        if (stats != null) {
+            if (existingPlayer == null) {
                 stats.setCurrentLevel(1);
-            }
-        } else {
-            world = new WorldManager(layouts[currentLayoutIdx], sceneManager, existingPlayer);
-            world.create();
-            GameStatistics stats = world.getStatistics();
-            if (stats != null) {
+            } else {
                 stats.incrementCurrentLevel();
             }
         }
+
+        floorPreloader.prepare(nextFloorSeed());
     }
 
     @Override
     public void update(float delta) {
         if (world != null) {
             world.update(delta);
+            floorPreloader.update(GameConfig.FLOOR_PREPARE_FRAME_BUDGET_MS);
 
             Player player = world.getPlayer();
             if (player != null && player.isLevelTransitionRequested()) {
@@ -84,6 +97,9 @@ public class GameScene implements Scene {
         if (inputManager.isActionJustPressed(InputAction.PAUSE)) {
             pauseGame();
         }
+        if (inputRecorder != null && inputManager.isActionJustPressed(InputAction.SAVE_REPLAY)) {
+            saveReplay();
+        }
     }
 
     @Override
@@ -106,13 +122,54 @@ public class GameScene implements Scene {
 
     @Override
     public void dispose() {
+        floorPreloader.dispose();
         if (world != null) {
             world.dispose();
             world = null;
         }
     }
 
+    public long getCurrentSeed() {
+        return currentSeed;
+    }
+
+    public long getRunSeed() {
+        return runSeed;
+    }
+
+    private void disposeWorld() {
+        if (world != null) {
+            world.detachPlayer();
+            world.dispose();
+            world = null;
+        }
+    }
+
+    private long nextFloorSeed() {
+        return GameRandom.get(GameRandom.Stream.LAYOUT).nextLong();
+    }
+
+    private void saveReplay() {
+        FileHandle file = Gdx.files.local(REPLAY_DIRECTORY + "run-" + System.currentTimeMillis() + ".rhr");
+        try {
+            inputRecorder.save(file);
+            Gdx.app.log(TAG, "Saved " + inputRecorder.getTickCount() + " ticks ("
+                    + inputRecorder.getSizeBytes() + " bytes) to " + file.path());
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error(TAG, "Failed to save replay: " + file.path(), e);
+        }
+    }
+
     private void pauseGame() {
+        if (world != null) {
+            world.clearQueuedInput();
+        }
         sceneManager.pushScene(new PauseMenuScene(sceneManager, this));
     }
+
+    public void resumeGame() {
+        if (world != null) {
+            world.clearQueuedInput();
+        }
+    }
 }
@@ -64,7 +64,7 @@ public class LevelCompleteScene implements Scene {
         calculateButtonBounds();
 
         showCursor();
-        SoundManager.playMusic(SoundManager.musicWin, true);
+        SoundManager.playMusic(SoundManager.MUSIC_WIN, true);
     }
 
     @Override
@@ -207,7 +207,7 @@ public class LevelCompleteScene implements Scene {
                     stats.incrementLevelsCompleted();
                 }
 
-                SoundManager.playMusic(SoundManager.musicMenu, true);
+                SoundManager.playMusic(SoundManager.MUSIC_MENU, true);
 
                 sceneManager.popScene();
                 if (player != null) {
@@ -219,7 +219,7 @@ public class LevelCompleteScene implements Scene {
             if (quitHovered) {
                 SoundManager.playButtonClick();
 
-                SoundManager.playMusic(SoundManager.musicMenu, true);
+                SoundManager.playMusic(SoundManager.MUSIC_MENU, true);
 
                 sceneManager.setScene(new MainMenuScene(sceneManager));
                 return;
@@ -229,7 +229,7 @@ public class LevelCompleteScene implements Scene {
         if (Gdx.input.isKeyJustPressed(Input.Keys.ENTER)) {
             SoundManager.playButtonClick();
 
-            SoundManager.playMusic(SoundManager.musicMenu, true);
+            SoundManager.playMusic(SoundManager.MUSIC_MENU, true);
 
             sceneManager.popScene();
             if (player != null) {
@@ -241,7 +241,7 @@ public class LevelCompleteScene implements Scene {
         if (Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             SoundManager.playButtonClick();
 
-            SoundManager.playMusic(SoundManager.musicMenu, true);
+            SoundManager.playMusic(SoundManager.MUSIC_MENU, true);
 
             sceneManager.setScene(new MainMenuScene(sceneManager));
         }
@@ -10,11 +10,14 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import project.roguelike.core.AssetRegistry;
 import project.roguelike.core.GameConfig;
+import project.roguelike.core.InputReplay;
 import project.roguelike.core.SceneManager;
 
 public class LoadingScene implements Scene {
-    private static final float SCENE_CREATION_THRESHOLD = 0.7f;
+    private static final float ASSET_PROGRESS_SHARE = 0.9f;
+    private static final String GAME_TEXTURE_DIRECTORY = "textures";
     private static final float DEFAULT_MIN_DISPLAY_TIME = 0.5f;
 
     private static final Color BACKGROUND_COLOR = new Color(0.25f, 0.25f, 0.25f, 1f);
@@ -28,6 +31,7 @@ public class LoadingScene implements Scene {
     private final SceneManager sceneManager;
     private final SceneType targetSceneType;
     private final float minDisplayTime;
+    private InputReplay replay;
 
     private Scene targetScene;
     private Viewport viewport;
@@ -56,6 +60,11 @@ public class LoadingScene implements Scene {
         this(sceneManager, targetSceneType, DEFAULT_MIN_DISPLAY_TIME);
     }
 
+    public LoadingScene(SceneManager sceneManager, InputReplay replay) {
+        this(sceneManager, SceneType.GAME, DEFAULT_MIN_DISPLAY_TIME);
+        this.replay = replay;
+    }
+
     @Override
     public void create() {
         viewport = new FitViewport(GameConfig.WORLD_WIDTH, GameConfig.WORLD_HEIGHT);
@@ -69,6 +78,7 @@ public class LoadingScene implements Scene {
         shapeRenderer = new ShapeRenderer();
 
         initializeFont();
+        queueAssets();
     }
 
     @Override
@@ -145,19 +155,23 @@ public class LoadingScene implements Scene {
         }
     }
 
+    private void queueAssets() {
+        if (targetSceneType == SceneType.GAME) {
+            AssetRegistry.queueTextures(GAME_TEXTURE_DIRECTORY);
+        }
+    }
+
     private void updateProgress(float delta) {
-        if (progress >= 1f) {
+        if (targetSceneCreated) {
             return;
         }
 
-        progress += delta * GameConfig.UI_LOADING_SPEED;
+        boolean assetsLoaded = AssetRegistry.updateLoading(GameConfig.ASSET_LOAD_FRAME_BUDGET_MS);
+        progress = AssetRegistry.getLoadingProgress() * ASSET_PROGRESS_SHARE;
 
-        if (progress >= SCENE_CREATION_THRESHOLD && !targetSceneCreated) {
+        if (assetsLoaded) {
             createTargetScene();
             targetSceneCreated = true;
-        }
-
-        if (progress > 1f) {
             progress = 1f;
         }
     }
@@ -196,7 +210,7 @@ public class LoadingScene implements Scene {
     private Scene createSceneByType(SceneType type) {
         switch (type) {
             case GAME:
-                return new GameScene(sceneManager);
+                return replay != null ? new GameScene(sceneManager, replay) : new GameScene(sceneManager);
             case MAIN_MENU:
                 return new MainMenuScene(sceneManager);
             case OPTIONS:
@@ -217,7 +231,7 @@ public class LoadingScene implements Scene {
 
     private void transitionToTargetScene() {
         if (targetScene != null) {
-            sceneManager.setScene(targetScene);
+            sceneManager.setCreatedScene(targetScene);
         } else {
             sceneManager.setScene(createFallbackScene());
         }
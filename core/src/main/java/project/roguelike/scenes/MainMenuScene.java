@@ -45,7 +45,7 @@ public class MainMenuScene implements Scene {
         loadTextures();
         initializeBounds();
 
-        SoundManager.playMusic(SoundManager.musicMenu, true);
+        SoundManager.playMusic(SoundManager.MUSIC_MENU, true);
     }
 
     @Override
@@ -175,6 +175,9 @@ public class PauseMenuScene implements Scene {
     }
 
     private void resumeGame() {
+        if (gameScene != null) {
+            gameScene.resumeGame();
+        }
         sceneManager.popScene();
     }
 
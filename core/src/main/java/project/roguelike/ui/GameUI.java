@@ -1,17 +1,25 @@
 package project.roguelike.ui;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.List;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.Texture.TextureWrap;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import project.roguelike.core.AssetRegistry;
 import project.roguelike.core.GameConfig;
 import project.roguelike.entities.Player;
 import project.roguelike.items.activeItems.ActiveItem;
@@ -21,21 +29,14 @@ import project.roguelike.levels.RoomData;
 import project.roguelike.levels.RoomData.RoomType;
 
 public class GameUI {
-    private final ShapeRenderer shapeRenderer;
     private final SpriteBatch batch;
     private final Texture backgroundTexture;
     private final TextureRegion backgroundRegion;
+    private final TextureRegion pixelRegion;
     private final BitmapFont font;
-    private Texture heartIcon;
-    private Texture coinIcon;
-    private Texture keyIcon;
-    private Texture startRoomTexture;
-    private Texture bossRoomTexture;
-    private Texture normalRoomTexture;
-    private Texture trapRoomTexture;
-    private Texture chestRoomTexture;
-    private Texture shopRoomTexture;
-    private Texture endRoomTexture;
+    private TextureRegion heartIcon;
+    private TextureRegion coinIcon;
+    private TextureRegion keyIcon;
     private TextureRegion startRoomIcon;
     private TextureRegion bossRoomIcon;
     private TextureRegion normalRoomIcon;
@@ -47,6 +48,8 @@ public class GameUI {
     private static final float UI_HEIGHT = 128f;
     private static final Color UI_BORDER = new Color(0.5f, 0.5f, 0.5f, 1f);
     private static final int TEXTURE_BASE_SIZE = 16;
+    private static final float LINE_WIDTH = 1f;
+    private static final float FONT_SCALE = 1.2f;
 
     private static final Color HP_BAR_BG = new Color(0.2f, 0.2f, 0.2f, 1f);
     private static final Color HP_BAR_FILL = new Color(0.8f, 0.1f, 0.1f, 1f);
@@ -57,13 +60,17 @@ public class GameUI {
     private static final float HP_BAR_PADDING_LEFT = 24f;
     private static final float HP_BAR_PADDING_TOP = 24f;
     private static final float ICON_PADDING = HP_BAR_HEIGHT / 2f;
+    private static final float HP_BAR_X = HP_BAR_PADDING_LEFT + HEART_ICON_SIZE + ICON_PADDING;
+    private static final float HP_BAR_Y = UI_HEIGHT - HP_BAR_PADDING_TOP - HP_BAR_HEIGHT;
 
     private static final float ICON_ROW_SIZE = HEART_ICON_SIZE * 1.5f;
     private static final float ICON_ROW_SPACING = 0.55f;
     private static final float ICON_ROW_PADDING_LEFT = HP_BAR_PADDING_LEFT * 0.75f;
     private static final float ICON_ROW_PADDING_TOP = HP_BAR_PADDING_TOP + HP_BAR_HEIGHT * 1.25f;
+    private static final float ICON_ROW_Y = UI_HEIGHT - ICON_ROW_PADDING_TOP - ICON_ROW_SIZE;
     private static final float ICON_TEXT_SCALE = 0.33f;
     private static final float ICON_TEXT_GAP = 44f;
+    private static final float ICON_SPACING_TEXT_SCALE = 1.1f;
 
     private static final float CENTER_SLOT_WIDTH = 128f;
     private static final float CENTER_SLOT_HEIGHT = 72f;
@@ -72,7 +79,11 @@ public class GameUI {
     private static final float CENTER_SLOT_BAR_MARGIN = 8f;
     private static final float CENTER_SLOT_ICON_SIZE = 64f;
     private static final float CENTER_SLOT_ICON_SHIFT_Y = 8f;
+    private static final float CENTER_SLOT_Y = UI_HEIGHT - HP_BAR_PADDING_TOP - CENTER_SLOT_HEIGHT;
+    private static final float CENTER_SLOT_TEXT_Y = CENTER_SLOT_Y + 18f;
+    private static final float CENTER_SLOT_BAR_Y = CENTER_SLOT_Y - CENTER_SLOT_BAR_MARGIN - CENTER_SLOT_BAR_HEIGHT;
 
+    private static final Color SLOT_BG = new Color(0.1f, 0.1f, 0.1f, 0.8f);
     private static final Color SLOT_BORDER_READY = Color.GREEN;
     private static final Color SLOT_BORDER_BUSY = Color.RED;
     private static final Color SLOT_BORDER_EMPTY = Color.WHITE;
@@ -83,9 +94,70 @@ public class GameUI {
     private static final float MINIMAP_ROOM_SIZE = GameConfig.TILE_SIZE;
     private static final float MINIMAP_ROOM_SPACING = 4f;
     private static final float MINIMAP_ICON_SIZE_RATIO = 0.5f;
+    private static final float MINIMAP_MAX_SIZE = 104f;
+    private static final Color MINIMAP_ROOM_FILL = new Color(0.18f, 0.18f, 0.18f, 1f);
+    private static final Color MINIMAP_PLAYER_FILL = Color.valueOf("a020f0");
+    private static final Color MINIMAP_ROOM_BORDER = Color.WHITE;
+    private static final int MINIMAP_BUFFER_SCALE = 2;
+
+    private final Matrix4 hudTransform = new Matrix4();
+    private final GlyphLayout measureLayout = new GlyphLayout();
+    private final float iconTextScale;
+
+    private final BitmapFontCache hpText;
+    private final BitmapFontCache weaponText;
+    private final BitmapFontCache itemText;
+    private final Array<IconEntry> iconEntries = new Array<>();
+    private final Array<PassiveItem> passiveTypes = new Array<>();
+    private final IntArray passiveCounts = new IntArray();
+    private int iconEntryCount;
+
+    private float layoutWidth = -1f;
+    private float slot1X;
+    private float slot2X;
+    private float hpFillWidth;
+    private int shownHealth = Integer.MIN_VALUE;
+    private int shownMaxHealth;
+    private int shownCoins;
+    private int shownKeys;
+    private int shownPassiveCount;
+    private PassiveItem shownLastPassive;
+    private boolean weaponSlotValid;
+    private Weapon shownWeapon;
+    private TextureRegion shownWeaponRegion;
+    private boolean shownReloading;
+    private int shownAmmo;
+    private int shownMagazine;
+    private boolean itemSlotValid;
+    private ActiveItem shownItem;
+    private TextureRegion shownItemRegion;
+    private int shownCooldownTenths;
+    private TextureRegion weaponIcon;
+    private final float[] weaponIconBounds = new float[4];
+    private TextureRegion itemIcon;
+    private final float[] itemIconBounds = new float[4];
+
+    private final OrthographicCamera minimapCamera = new OrthographicCamera();
+    private FrameBuffer minimapBuffer;
+    private TextureRegion minimapRegion;
+    private RoomData[][] minimapLayout;
+    private int minimapPlayerRow = -1;
+    private int minimapPlayerCol = -1;
+    private float minimapRoomSize;
+    private float minimapWidth;
+    private float minimapHeight;
+
+    private static class IconEntry {
+        final BitmapFontCache text;
+        TextureRegion icon;
+        float x;
+
+        IconEntry(BitmapFont font) {
+            this.text = font.newFontCache();
+        }
+    }
 
     public GameUI() {
-        this.shapeRenderer = new ShapeRenderer();
         this.batch = new SpriteBatch();
         this.backgroundTexture = new Texture("ui/background.png");
         this.backgroundTexture.setWrap(TextureWrap.Repeat, TextureWrap.Repeat);
@@ -97,28 +169,27 @@ public class GameUI {
                 tileSize, tileSize);
 
         this.font = new BitmapFont();
-        this.font.getData().setScale(1.2f);
         this.font.setColor(Color.WHITE);
-
-        this.heartIcon = new Texture("ui/heart_icon.png");
-        this.coinIcon = new Texture("ui/coin_icon.png");
-        this.keyIcon = new Texture("ui/key_icon.png");
-
-        this.startRoomTexture = new Texture("ui/minimap_start.png");
-        this.bossRoomTexture = new Texture("ui/minimap_boss.png");
-        this.normalRoomTexture = new Texture("ui/minimap_normal.png");
-        this.trapRoomTexture = new Texture("ui/minimap_trap.png");
-        this.chestRoomTexture = new Texture("ui/minimap_chest.png");
-        this.shopRoomTexture = new Texture("ui/minimap_shop.png");
-        this.endRoomTexture = new Texture("ui/minimap_end.png");
-
-        this.startRoomIcon = new TextureRegion(startRoomTexture);
-        this.bossRoomIcon = new TextureRegion(bossRoomTexture);
-        this.normalRoomIcon = new TextureRegion(normalRoomTexture);
-        this.trapRoomIcon = new TextureRegion(trapRoomTexture);
-        this.chestRoomIcon = new TextureRegion(chestRoomTexture);
-        this.shopRoomIcon = new TextureRegion(shopRoomTexture);
-        this.endRoomIcon = new TextureRegion(endRoomTexture);
+        this.font.getData().setScale(ICON_SPACING_TEXT_SCALE);
+        this.iconTextScale = ICON_ROW_SIZE * ICON_TEXT_SCALE / font.getCapHeight();
+        this.font.getData().setScale(FONT_SCALE);
+
+        this.hpText = font.newFontCache();
+        this.weaponText = font.newFontCache();
+        this.itemText = font.newFontCache();
+
+        this.pixelRegion = AssetRegistry.getRegion("ui/white.png");
+        this.heartIcon = AssetRegistry.getRegion("ui/heart_icon.png");
+        this.coinIcon = AssetRegistry.getRegion("ui/coin_icon.png");
+        this.keyIcon = AssetRegistry.getRegion("ui/key_icon.png");
+
+        this.startRoomIcon = AssetRegistry.getRegion("ui/minimap_start.png");
+        this.bossRoomIcon = AssetRegistry.getRegion("ui/minimap_boss.png");
+        this.normalRoomIcon = AssetRegistry.getRegion("ui/minimap_normal.png");
+        this.trapRoomIcon = AssetRegistry.getRegion("ui/minimap_trap.png");
+        this.chestRoomIcon = AssetRegistry.getRegion("ui/minimap_chest.png");
+        this.shopRoomIcon = AssetRegistry.getRegion("ui/minimap_shop.png");
+        this.endRoomIcon = AssetRegistry.getRegion("ui/minimap_end.png");
     }
 
     public void render(Viewport viewport, Player player, RoomData[][] layout, int playerRoomRow, int playerRoomCol) {
@@ -127,200 +198,238 @@ public class GameUI {
         float viewportWidth = viewport.getWorldWidth();
         float viewportHeight = viewport.getWorldHeight();
 
-        float cameraX = camera.position.x;
-        float cameraY = camera.position.y;
-
-        float uiX = cameraX - viewportWidth / 2f;
-        float uiY = cameraY + viewportHeight / 2f - UI_HEIGHT;
-        float uiWidth = viewportWidth;
+        float uiX = camera.position.x - viewportWidth / 2f;
+        float uiY = camera.position.y + viewportHeight / 2f - UI_HEIGHT;
 
-        renderBackground(uiX, uiY, uiWidth, camera);
-        renderHealthBar(uiX, uiY, player, camera);
-        renderResourceAndPassiveRow(uiX, uiY, player, camera);
-        renderCenterSlots(uiX, uiY, uiWidth, player, camera);
-        renderMinimap(uiX, uiY, uiWidth, UI_HEIGHT, layout, camera, playerRoomRow, playerRoomCol);
+        if (viewportWidth != layoutWidth) {
+            rebuildLayout(viewportWidth);
+        }
+        updateHealthBar(player);
+        updateIconRow(player);
+        updateWeaponSlot(player);
+        updateItemSlot(player);
+        updateMinimap(viewport, layout, playerRoomRow, playerRoomCol);
 
-        shapeRenderer.setProjectionMatrix(camera.combined);
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        shapeRenderer.setColor(UI_BORDER);
-        shapeRenderer.line(uiX, uiY, uiX + uiWidth, uiY);
-        shapeRenderer.end();
+        batch.setProjectionMatrix(camera.combined);
+        batch.setTransformMatrix(hudTransform.setToTranslation(uiX, uiY, 0f));
+        batch.begin();
+        batch.draw(backgroundRegion, 0f, 0f, layoutWidth, UI_HEIGHT);
+        drawHealthBar();
+        drawIconRow();
+        drawCenterSlots(player);
+        fillRect(0f, 0f, layoutWidth, LINE_WIDTH, UI_BORDER);
+        drawMinimap();
+        drawText();
+        batch.end();
     }
 
-    private void renderBackground(float uiX, float uiY, float uiWidth, OrthographicCamera camera) {
-        float tileSize = GameConfig.TILE_SIZE;
-        float scaleX = uiWidth / tileSize;
-        float scaleY = UI_HEIGHT / tileSize;
+    private void rebuildLayout(float uiWidth) {
+        layoutWidth = uiWidth;
 
+        float tileSize = GameConfig.TILE_SIZE;
         backgroundRegion.setRegion(
                 0, 0,
-                (int) (TEXTURE_BASE_SIZE * scaleX),
-                (int) (TEXTURE_BASE_SIZE * scaleY));
+                (int) (TEXTURE_BASE_SIZE * uiWidth / tileSize),
+                (int) (TEXTURE_BASE_SIZE * UI_HEIGHT / tileSize));
 
-        batch.setProjectionMatrix(camera.combined);
-        batch.begin();
-        batch.draw(
-                backgroundRegion,
-                uiX, uiY,
-                uiWidth, UI_HEIGHT);
-        batch.end();
+        slot1X = uiWidth / 2f - CENTER_SLOT_WIDTH - CENTER_SLOT_SPACING / 2f;
+        slot2X = uiWidth / 2f + CENTER_SLOT_SPACING / 2f;
+        weaponSlotValid = false;
+        itemSlotValid = false;
     }
 
-    private void renderHealthBar(float uiX, float uiY, Player player, OrthographicCamera camera) {
-        float hpBarX = uiX + HP_BAR_PADDING_LEFT + HEART_ICON_SIZE + ICON_PADDING;
-        float hpBarY = uiY + UI_HEIGHT - HP_BAR_PADDING_TOP - HP_BAR_HEIGHT;
-
-        shapeRenderer.setProjectionMatrix(camera.combined);
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-
-        shapeRenderer.setColor(HP_BAR_BG);
-        shapeRenderer.rect(hpBarX, hpBarY, HP_BAR_WIDTH, HP_BAR_HEIGHT);
+    private void updateHealthBar(Player player) {
+        int health = player.getHealth();
+        int maxHealth = player.getMaxHealth();
+        if (health == shownHealth && maxHealth == shownMaxHealth) {
+            return;
+        }
+        shownHealth = health;
+        shownMaxHealth = maxHealth;
 
-        float hpPercent = (float) player.getHealth() / player.getMaxHealth();
-        float hpFillWidth = HP_BAR_WIDTH * hpPercent;
-        shapeRenderer.setColor(HP_BAR_FILL);
-        shapeRenderer.rect(hpBarX, hpBarY, hpFillWidth, HP_BAR_HEIGHT);
+        hpFillWidth = HP_BAR_WIDTH * health / maxHealth;
+        setCenteredText(hpText, health + " / " + maxHealth, FONT_SCALE, Color.WHITE,
+                HP_BAR_X + HP_BAR_WIDTH / 2f, HP_BAR_Y + HP_BAR_HEIGHT / 2f, true);
+    }
 
-        shapeRenderer.end();
+    private void updateIconRow(Player player) {
+        List<PassiveItem> passives = player.getPassiveItems();
+        PassiveItem lastPassive = passives.isEmpty() ? null : passives.get(passives.size() - 1);
+        if (iconEntryCount > 0
+                && player.getCoins() == shownCoins
+                && player.getKeys() == shownKeys
+                && passives.size() == shownPassiveCount
+                && lastPassive == shownLastPassive) {
+            return;
+        }
+        shownCoins = player.getCoins();
+        shownKeys = player.getKeys();
+        shownPassiveCount = passives.size();
+        shownLastPassive = lastPassive;
+
+        passiveTypes.clear();
+        passiveCounts.clear();
+        for (PassiveItem item : passives) {
+            int index = indexOfPassiveType(item.getId());
+            if (index < 0) {
+                passiveTypes.add(item);
+                passiveCounts.add(1);
+            } else {
+                passiveCounts.incr(index, 1);
+            }
+        }
 
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        shapeRenderer.setColor(HP_BAR_BORDER);
-        shapeRenderer.rect(hpBarX, hpBarY, HP_BAR_WIDTH, HP_BAR_HEIGHT);
-        shapeRenderer.end();
+        iconEntryCount = 0;
+        float rowX = ICON_ROW_PADDING_LEFT;
+        rowX = addIconEntry(coinIcon, Color.GOLD, "x" + shownCoins, rowX);
+        rowX = addIconEntry(keyIcon, Color.LIGHT_GRAY, "x" + shownKeys, rowX);
+        for (int i = 0; i < passiveTypes.size; i++) {
+            rowX = addIconEntry(passiveTypes.get(i).getIconRegion(), Color.WHITE, "x" + passiveCounts.get(i), rowX);
+        }
+        passiveTypes.clear();
+    }
 
-        float heartX = uiX + HP_BAR_PADDING_LEFT;
-        float heartY = hpBarY + (HP_BAR_HEIGHT - HEART_ICON_SIZE);
-        batch.setProjectionMatrix(camera.combined);
-        batch.begin();
-        batch.draw(heartIcon, heartX, heartY, HEART_ICON_SIZE, HEART_ICON_SIZE);
+    private int indexOfPassiveType(String id) {
+        for (int i = 0; i < passiveTypes.size; i++) {
+            if (passiveTypes.get(i).getId().equals(id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
 
-        String hpText = player.getHealth() + " / " + player.getMaxHealth();
-        GlyphLayout layout = new GlyphLayout(font, hpText);
+    private float addIconEntry(TextureRegion icon, Color color, String text, float rowX) {
+        if (iconEntryCount == iconEntries.size) {
+            iconEntries.add(new IconEntry(font));
+        }
+        IconEntry entry = iconEntries.get(iconEntryCount++);
+        entry.icon = icon;
+        entry.x = rowX;
 
-        float textX = hpBarX + (HP_BAR_WIDTH - layout.width) / 2f;
-        float textY = hpBarY + (HP_BAR_HEIGHT + layout.height) / 2f;
+        font.getData().setScale(ICON_SPACING_TEXT_SCALE);
+        measureLayout.setText(font, text);
+        float spacingWidth = measureLayout.width;
 
-        font.draw(batch, hpText, textX, textY);
+        font.getData().setScale(iconTextScale);
+        measureLayout.setText(font, text, color, 0f, Align.left, false);
+        entry.text.setText(measureLayout, rowX + ICON_TEXT_GAP, ICON_ROW_Y + (ICON_ROW_SIZE + measureLayout.height) / 2f);
+        font.getData().setScale(FONT_SCALE);
 
-        batch.end();
+        return rowX + ICON_ROW_SPACING * (spacingWidth + ICON_TEXT_GAP + ICON_ROW_SIZE);
     }
 
-    private void renderResourceAndPassiveRow(float uiX, float uiY, Player player, OrthographicCamera camera) {
-        float rowY = uiY + UI_HEIGHT - ICON_ROW_PADDING_TOP - ICON_ROW_SIZE;
-        float rowX = uiX + ICON_ROW_PADDING_LEFT;
-
-        batch.setProjectionMatrix(camera.combined);
-        batch.begin();
-
-        class IconData {
-            Texture icon;
-            Color color;
-            String text;
-            float textWidth;
-
-            IconData(Texture icon, Color color, String text, float textWidth) {
-                this.icon = icon;
-                this.color = color;
-                this.text = text;
-                this.textWidth = textWidth;
-            }
+    private void updateWeaponSlot(Player player) {
+        Weapon weapon = player.getCurrentWeapon();
+        TextureRegion region = player.getCurrentWeaponRegion();
+        boolean reloading = weapon != null && weapon.isReloading();
+        int ammo = weapon != null ? weapon.getCurrentAmmo() : 0;
+        int magazine = weapon != null ? weapon.getMagazineSize() : 0;
+        if (weaponSlotValid
+                && weapon == shownWeapon
+                && region == shownWeaponRegion
+                && reloading == shownReloading
+                && ammo == shownAmmo
+                && magazine == shownMagazine) {
+            return;
         }
-        java.util.List<IconData> icons = new java.util.ArrayList<>();
-
-        String coinText = "x" + player.getCoins();
-        font.getData().setScale(1.1f);
-        float coinTextWidth = font.getRegion().getRegionWidth();
-        coinTextWidth = new GlyphLayout(font, coinText).width;
-        icons.add(new IconData(coinIcon, Color.GOLD, coinText, coinTextWidth));
-
-        String keyText = "x" + player.getKeys();
-        float keyTextWidth = new GlyphLayout(font, keyText).width;
-        icons.add(new IconData(keyIcon, Color.LIGHT_GRAY, keyText, keyTextWidth));
-
-        Map<String, Integer> counts = new LinkedHashMap<>();
-        Map<String, PassiveItem> firstOfType = new LinkedHashMap<>();
-        for (PassiveItem item : player.getPassiveItems()) {
-            String id = item.getId();
-            counts.put(id, counts.getOrDefault(id, 0) + 1);
-            if (!firstOfType.containsKey(id)) {
-                firstOfType.put(id, item);
+        weaponSlotValid = true;
+        shownWeapon = weapon;
+        shownWeaponRegion = region;
+        shownReloading = reloading;
+        shownAmmo = ammo;
+        shownMagazine = magazine;
+
+        float textX = slot1X + CENTER_SLOT_WIDTH / 2f;
+        if (weapon != null && region != null) {
+            weaponIcon = region;
+            fitSlotIcon(region, slot1X, weaponIconBounds);
+            if (reloading) {
+                setCenteredText(weaponText, "Reloading", 1.0f, Color.WHITE, textX, CENTER_SLOT_TEXT_Y, false);
+            } else {
+                setCenteredText(weaponText, ammo + " / " + magazine, 1.1f, Color.WHITE, textX, CENTER_SLOT_TEXT_Y,
+                        false);
             }
+        } else {
+            weaponIcon = null;
+            setCenteredText(weaponText, "No Weapon", 1.0f, Color.LIGHT_GRAY, textX, CENTER_SLOT_TEXT_Y, false);
         }
-        for (String id : counts.keySet()) {
-            PassiveItem item = firstOfType.get(id);
-            Texture texture = item.getTexture();
-            String countText = "x" + counts.get(id);
-            float countTextWidth = new GlyphLayout(font, countText).width;
-            icons.add(new IconData(texture, Color.WHITE, countText, countTextWidth));
-        }
-
-        float textScale = ICON_ROW_SIZE * ICON_TEXT_SCALE / font.getCapHeight();
-        font.getData().setScale(textScale);
-
-        for (IconData data : icons) {
-            if (data.icon != null) {
-                if (data.icon != coinIcon && data.icon != keyIcon) {
-                    batch.draw(data.icon, rowX, rowY, ICON_ROW_SIZE, ICON_ROW_SIZE, 0, 0, 16, 16, false, false);
-                } else {
-                    batch.draw(data.icon, rowX, rowY, ICON_ROW_SIZE, ICON_ROW_SIZE);
-                }
-            }
-            font.setColor(data.color);
-
-            GlyphLayout layout = new GlyphLayout(font, data.text);
-            float textX = rowX + ICON_TEXT_GAP;
-            float textY = rowY + (ICON_ROW_SIZE + layout.height) / 2f;
-
-            font.draw(batch, data.text, textX, textY);
+    }
 
-            rowX += ICON_ROW_SPACING * (data.textWidth + ICON_TEXT_GAP + ICON_ROW_SIZE);
+    private void updateItemSlot(Player player) {
+        ActiveItem item = player.getActiveItem();
+        TextureRegion region = item != null ? item.getRegion() : null;
+        int cooldownTenths = region != null ? Math.round(Math.max(0f, item.getCurrentCooldown()) * 10f) : 0;
+        if (itemSlotValid
+                && item == shownItem
+                && region == shownItemRegion
+                && cooldownTenths == shownCooldownTenths) {
+            return;
+        }
+        itemSlotValid = true;
+        shownItem = item;
+        shownItemRegion = region;
+        shownCooldownTenths = cooldownTenths;
+
+        float textX = slot2X + CENTER_SLOT_WIDTH / 2f;
+        if (region != null) {
+            itemIcon = region;
+            fitSlotIcon(region, slot2X, itemIconBounds);
+            String text = cooldownTenths / 10 + "." + cooldownTenths % 10 + "s";
+            setCenteredText(itemText, text, 1.1f, Color.WHITE, textX, CENTER_SLOT_TEXT_Y, false);
+        } else {
+            itemIcon = null;
+            setCenteredText(itemText, "No Item", 1.0f, Color.LIGHT_GRAY, textX, CENTER_SLOT_TEXT_Y, false);
         }
-        font.getData().setScale(1.2f);
-        font.setColor(Color.WHITE);
-
-        batch.end();
     }
 
-    private void renderCenterSlots(float uiX, float uiY, float uiWidth, Player player, OrthographicCamera camera) {
-        float slotY = uiY + UI_HEIGHT - HP_BAR_PADDING_TOP - CENTER_SLOT_HEIGHT;
+    private void fitSlotIcon(TextureRegion region, float slotX, float[] bounds) {
+        int texW = region.getRegionWidth();
+        int texH = region.getRegionHeight();
+        float ratio = Math.min(CENTER_SLOT_ICON_SIZE / texW, CENTER_SLOT_ICON_SIZE / texH);
+        bounds[2] = texW * ratio;
+        bounds[3] = texH * ratio;
+        bounds[0] = slotX + (CENTER_SLOT_WIDTH - bounds[2]) / 2f;
+        bounds[1] = CENTER_SLOT_Y + (CENTER_SLOT_HEIGHT - bounds[3]) / 2f + CENTER_SLOT_ICON_SHIFT_Y;
+    }
 
-        float slot1X = uiX + uiWidth / 2f - CENTER_SLOT_WIDTH - CENTER_SLOT_SPACING / 2f;
-        float slot2X = uiX + uiWidth / 2f + CENTER_SLOT_SPACING / 2f;
+    private void setCenteredText(BitmapFontCache cache, String text, float scale, Color color,
+            float centerX, float y, boolean centerY) {
+        font.getData().setScale(scale);
+        measureLayout.setText(font, text, color, 0f, Align.left, false);
+        float textY = centerY ? y + measureLayout.height / 2f : y;
+        cache.setText(measureLayout, centerX - measureLayout.width / 2f, textY);
+        font.getData().setScale(FONT_SCALE);
+    }
 
-        Weapon weapon = player.getCurrentWeapon();
-        ActiveItem activeItem = player.getActiveItem();
+    private void drawHealthBar() {
+        fillRect(HP_BAR_X, HP_BAR_Y, HP_BAR_WIDTH, HP_BAR_HEIGHT, HP_BAR_BG);
+        fillRect(HP_BAR_X, HP_BAR_Y, hpFillWidth, HP_BAR_HEIGHT, HP_BAR_FILL);
+        strokeRect(HP_BAR_X, HP_BAR_Y, HP_BAR_WIDTH, HP_BAR_HEIGHT, HP_BAR_BORDER);
+        batch.draw(heartIcon, HP_BAR_PADDING_LEFT, HP_BAR_Y + (HP_BAR_HEIGHT - HEART_ICON_SIZE),
+                HEART_ICON_SIZE, HEART_ICON_SIZE);
+    }
 
-        String weaponText;
-        float weaponTextScale;
-        Color weaponTextColor;
-        if (weapon != null && player.getCurrentWeaponTexture() != null) {
-            if (weapon.isReloading()) {
-                weaponText = "Reloading";
-                weaponTextScale = 1.0f;
-                weaponTextColor = Color.WHITE;
-            } else {
-                weaponText = weapon.getCurrentAmmo() + " / " + weapon.getMagazineSize();
-                weaponTextScale = 1.1f;
-                weaponTextColor = Color.WHITE;
+    private void drawIconRow() {
+        for (int i = 0; i < iconEntryCount; i++) {
+            IconEntry entry = iconEntries.get(i);
+            if (entry.icon != null) {
+                batch.draw(entry.icon, entry.x, ICON_ROW_Y, ICON_ROW_SIZE, ICON_ROW_SIZE);
             }
-        } else {
-            weaponText = "No Weapon";
-            weaponTextScale = 1.0f;
-            weaponTextColor = Color.LIGHT_GRAY;
         }
+    }
 
-        String itemText;
-        float itemTextScale;
-        Color itemTextColor;
-        if (activeItem != null && activeItem.getTexture() != null) {
-            itemText = String.format("%.1fs", Math.max(0f, activeItem.getCurrentCooldown()));
-            itemTextScale = 1.1f;
-            itemTextColor = Color.WHITE;
-        } else {
-            itemText = "No Item";
-            itemTextScale = 1.0f;
-            itemTextColor = Color.LIGHT_GRAY;
+    private void drawText() {
+        hpText.draw(batch);
+        for (int i = 0; i < iconEntryCount; i++) {
+            iconEntries.get(i).text.draw(batch);
         }
+        weaponText.draw(batch);
+        itemText.draw(batch);
+    }
+
+    private void drawCenterSlots(Player player) {
+        Weapon weapon = player.getCurrentWeapon();
+        ActiveItem activeItem = player.getActiveItem();
 
         Color borderColor1 = SLOT_BORDER_EMPTY;
         if (weapon != null) {
@@ -333,199 +442,161 @@ public class GameUI {
             borderColor2 = itemReady ? SLOT_BORDER_READY : SLOT_BORDER_BUSY;
         }
 
-        shapeRenderer.setProjectionMatrix(camera.combined);
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        shapeRenderer.setColor(new Color(0.1f, 0.1f, 0.1f, 0.8f));
-        shapeRenderer.rect(slot1X, slotY, CENTER_SLOT_WIDTH, CENTER_SLOT_HEIGHT);
-        shapeRenderer.rect(slot2X, slotY, CENTER_SLOT_WIDTH, CENTER_SLOT_HEIGHT);
-        shapeRenderer.end();
-
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        shapeRenderer.setColor(borderColor1);
-        shapeRenderer.rect(slot1X, slotY, CENTER_SLOT_WIDTH, CENTER_SLOT_HEIGHT);
-        shapeRenderer.setColor(borderColor2);
-        shapeRenderer.rect(slot2X, slotY, CENTER_SLOT_WIDTH, CENTER_SLOT_HEIGHT);
-        shapeRenderer.end();
+        fillRect(slot1X, CENTER_SLOT_Y, CENTER_SLOT_WIDTH, CENTER_SLOT_HEIGHT, SLOT_BG);
+        fillRect(slot2X, CENTER_SLOT_Y, CENTER_SLOT_WIDTH, CENTER_SLOT_HEIGHT, SLOT_BG);
+        strokeRect(slot1X, CENTER_SLOT_Y, CENTER_SLOT_WIDTH, CENTER_SLOT_HEIGHT, borderColor1);
+        strokeRect(slot2X, CENTER_SLOT_Y, CENTER_SLOT_WIDTH, CENTER_SLOT_HEIGHT, borderColor2);
 
-        batch.setProjectionMatrix(camera.combined);
-        batch.begin();
-
-        if (weapon != null && player.getCurrentWeaponTexture() != null) {
-            Texture weaponTexture = player.getCurrentWeaponTexture();
-            int texW = weaponTexture.getWidth();
-            int texH = weaponTexture.getHeight();
-            float ratio = Math.min(CENTER_SLOT_ICON_SIZE / texW, CENTER_SLOT_ICON_SIZE / texH);
-            float drawW = texW * ratio;
-            float drawH = texH * ratio;
-            float iconX = slot1X + (CENTER_SLOT_WIDTH - drawW) / 2f;
-            float iconY = slotY + (CENTER_SLOT_HEIGHT - drawH) / 2f + CENTER_SLOT_ICON_SHIFT_Y;
-            batch.draw(weaponTexture, iconX, iconY, drawW, drawH);
+        if (weaponIcon != null) {
+            batch.draw(weaponIcon, weaponIconBounds[0], weaponIconBounds[1], weaponIconBounds[2], weaponIconBounds[3]);
         }
-
-        font.getData().setScale(weaponTextScale);
-        font.setColor(weaponTextColor);
-        GlyphLayout weaponLayout = new GlyphLayout(font, weaponText);
-        float weaponTextX = slot1X + (CENTER_SLOT_WIDTH - weaponLayout.width) / 2f;
-        float weaponTextY = slotY + 18f;
-        font.draw(batch, weaponText, weaponTextX, weaponTextY);
-
-        if (activeItem != null && activeItem.getTexture() != null) {
-            Texture itemTexture = activeItem.getTexture();
-            int texW = itemTexture.getWidth();
-            int texH = itemTexture.getHeight();
-            float ratio = Math.min(CENTER_SLOT_ICON_SIZE / texW, CENTER_SLOT_ICON_SIZE / texH);
-            float drawW = texW * ratio;
-            float drawH = texH * ratio;
-            float iconX = slot2X + (CENTER_SLOT_WIDTH - drawW) / 2f;
-            float iconY = slotY + (CENTER_SLOT_HEIGHT - drawH) / 2f + CENTER_SLOT_ICON_SHIFT_Y;
-            batch.draw(itemTexture, iconX, iconY, drawW, drawH);
+        if (itemIcon != null) {
+            batch.draw(itemIcon, itemIconBounds[0], itemIconBounds[1], itemIconBounds[2], itemIconBounds[3]);
         }
 
-        font.getData().setScale(itemTextScale);
-        font.setColor(itemTextColor);
-        GlyphLayout itemLayout = new GlyphLayout(font, itemText);
-        float itemTextX = slot2X + (CENTER_SLOT_WIDTH - itemLayout.width) / 2f;
-        float itemTextY = slotY + 18f;
-        font.draw(batch, itemText, itemTextX, itemTextY);
-
-        font.getData().setScale(1.2f);
-        font.setColor(Color.WHITE);
-        batch.end();
-
         if (weapon != null && weapon.isReloading()) {
-            float barX = slot1X;
-            float barY = slotY - CENTER_SLOT_BAR_MARGIN - CENTER_SLOT_BAR_HEIGHT;
             float percent = weapon.getRawReloadProgress() / weapon.getReloadTime();
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-            shapeRenderer.setColor(SLOT_BAR_BG);
-            shapeRenderer.rect(barX, barY, CENTER_SLOT_WIDTH, CENTER_SLOT_BAR_HEIGHT);
-            shapeRenderer.setColor(SLOT_BAR_FILL);
-            shapeRenderer.rect(barX, barY, CENTER_SLOT_WIDTH * percent, CENTER_SLOT_BAR_HEIGHT);
-            shapeRenderer.end();
+            drawProgressBar(slot1X, percent);
         }
-
         if (activeItem != null && activeItem.getCurrentCooldown() > 0f) {
-            float barX = slot2X;
-            float barY = slotY - CENTER_SLOT_BAR_MARGIN - CENTER_SLOT_BAR_HEIGHT;
             float percent = 1f - (activeItem.getCurrentCooldown() / activeItem.getCooldown());
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-            shapeRenderer.setColor(SLOT_BAR_BG);
-            shapeRenderer.rect(barX, barY, CENTER_SLOT_WIDTH, CENTER_SLOT_BAR_HEIGHT);
-            shapeRenderer.setColor(SLOT_BAR_FILL);
-            shapeRenderer.rect(barX, barY, CENTER_SLOT_WIDTH * percent, CENTER_SLOT_BAR_HEIGHT);
-            shapeRenderer.end();
+            drawProgressBar(slot2X, percent);
         }
     }
 
-    public void renderMinimap(float uiX, float uiY, float uiWidth, float uiHeight, RoomData[][] layout,
-            OrthographicCamera camera, int playerRoomRow, int playerRoomCol) {
-        if (layout == null)
-            return;
-
-        int rows = layout.length;
-        int cols = layout[0].length;
+    private void drawProgressBar(float x, float percent) {
+        fillRect(x, CENTER_SLOT_BAR_Y, CENTER_SLOT_WIDTH, CENTER_SLOT_BAR_HEIGHT, SLOT_BAR_BG);
+        fillRect(x, CENTER_SLOT_BAR_Y, CENTER_SLOT_WIDTH * percent, CENTER_SLOT_BAR_HEIGHT, SLOT_BAR_FILL);
+    }
 
-        float maxMapWidth = 104f;
-        float maxMapHeight = 104f;
-        float roomSizeX = (maxMapWidth - (cols - 1) * MINIMAP_ROOM_SPACING) / cols;
-        float roomSizeY = (maxMapHeight - (rows - 1) * MINIMAP_ROOM_SPACING) / rows;
-        float roomSize = Math.min(MINIMAP_ROOM_SIZE, Math.min(roomSizeX, roomSizeY));
-
-        float mapWidth = cols * roomSize + (cols - 1) * MINIMAP_ROOM_SPACING;
-        float mapHeight = rows * roomSize + (rows - 1) * MINIMAP_ROOM_SPACING;
-        float minimapX = uiX + uiWidth - MINIMAP_PADDING - mapWidth;
-        float minimapY = uiY + uiHeight - MINIMAP_PADDING - mapHeight;
-
-        shapeRenderer.setProjectionMatrix(camera.combined);
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                RoomData room = layout[row][col];
-                if (room == null)
-                    continue;
-                float x = minimapX + col * (roomSize + MINIMAP_ROOM_SPACING);
-                float y = minimapY + (rows - 1 - row) * (roomSize + MINIMAP_ROOM_SPACING);
-
-                if (!(row == playerRoomRow && col == playerRoomCol)) {
-                    shapeRenderer.setColor(new Color(0.18f, 0.18f, 0.18f, 1f));
-                    shapeRenderer.rect(x, y, roomSize, roomSize);
-                }
-            }
-        }
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                if (row == playerRoomRow && col == playerRoomCol) {
-                    float x = minimapX + col * (roomSize + MINIMAP_ROOM_SPACING);
-                    float y = minimapY + (rows - 1 - row) * (roomSize + MINIMAP_ROOM_SPACING);
-                    shapeRenderer.setColor(Color.valueOf("a020f0"));
-                    shapeRenderer.rect(x, y, roomSize, roomSize);
-                }
-            }
+    private void updateMinimap(Viewport viewport, RoomData[][] layout, int playerRoomRow, int playerRoomCol) {
+        if (layout == null) {
+            return;
         }
-        shapeRenderer.end();
-
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                RoomData room = layout[row][col];
-                if (room == null)
-                    continue;
-                float x = minimapX + col * (roomSize + MINIMAP_ROOM_SPACING);
-                float y = minimapY + (rows - 1 - row) * (roomSize + MINIMAP_ROOM_SPACING);
-                shapeRenderer.setColor(Color.WHITE);
-                shapeRenderer.rect(x, y, roomSize, roomSize);
-            }
+        boolean rebuild = layout != minimapLayout;
+        if (!rebuild && playerRoomRow == minimapPlayerRow && playerRoomCol == minimapPlayerCol) {
+            return;
         }
-        shapeRenderer.end();
 
-        batch.setProjectionMatrix(camera.combined);
+        if (rebuild) {
+            layoutMinimap(layout);
+        }
+        batch.setProjectionMatrix(minimapCamera.combined);
+        batch.setTransformMatrix(hudTransform.idt());
+        minimapBuffer.begin();
         batch.begin();
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                RoomData room = layout[row][col];
-                if (room == null)
-                    continue;
-                float x = minimapX + col * (roomSize + MINIMAP_ROOM_SPACING);
-                float y = minimapY + (rows - 1 - row) * (roomSize + MINIMAP_ROOM_SPACING);
-                TextureRegion icon = null;
-                if (room.type == RoomType.START)
-                    icon = startRoomIcon;
-                else if (room.type == RoomType.BOSS)
-                    icon = bossRoomIcon;
-                else if (room.type == RoomType.TRAP)
-                    icon = trapRoomIcon;
-                else if (room.type == RoomType.CHEST)
-                    icon = chestRoomIcon;
-                else if (room.type == RoomType.SHOP)
-                    icon = shopRoomIcon;
-                else if (room.type == RoomType.END)
-                    icon = endRoomIcon;
-                else
-                    icon = normalRoomIcon;
-                float iconSize = roomSize * MINIMAP_ICON_SIZE_RATIO;
-                if (icon != null) {
-                    batch.draw(icon, x + (roomSize - iconSize) / 2f, y + (roomSize - iconSize) / 2f, iconSize,
-                            iconSize);
+        if (rebuild) {
+            Gdx.gl.glClearColor(0f, 0f, 0f, 0f);
+            Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+            for (int row = 0; row < layout.length; row++) {
+                for (int col = 0; col < layout[row].length; col++) {
+                    drawMinimapRoom(row, col, playerRoomRow, playerRoomCol);
                 }
             }
+        } else {
+            drawMinimapRoom(minimapPlayerRow, minimapPlayerCol, playerRoomRow, playerRoomCol);
+            drawMinimapRoom(playerRoomRow, playerRoomCol, playerRoomRow, playerRoomCol);
         }
         batch.end();
+        minimapBuffer.end(viewport.getScreenX(), viewport.getScreenY(),
+                viewport.getScreenWidth(), viewport.getScreenHeight());
+
+        minimapPlayerRow = playerRoomRow;
+        minimapPlayerCol = playerRoomCol;
+    }
+
+    private void layoutMinimap(RoomData[][] layout) {
+        int rows = layout.length;
+        int cols = layout[0].length;
+
+        float roomSizeX = (MINIMAP_MAX_SIZE - (cols - 1) * MINIMAP_ROOM_SPACING) / cols;
+        float roomSizeY = (MINIMAP_MAX_SIZE - (rows - 1) * MINIMAP_ROOM_SPACING) / rows;
+        minimapRoomSize = Math.min(MINIMAP_ROOM_SIZE, Math.min(roomSizeX, roomSizeY));
+        minimapWidth = cols * minimapRoomSize + (cols - 1) * MINIMAP_ROOM_SPACING;
+        minimapHeight = rows * minimapRoomSize + (rows - 1) * MINIMAP_ROOM_SPACING;
+        minimapLayout = layout;
+        minimapPlayerRow = -1;
+        minimapPlayerCol = -1;
+
+        int bufferWidth = (int) Math.ceil(minimapWidth * MINIMAP_BUFFER_SCALE);
+        int bufferHeight = (int) Math.ceil(minimapHeight * MINIMAP_BUFFER_SCALE);
+        if (minimapBuffer == null
+                || minimapBuffer.getWidth() != bufferWidth
+                || minimapBuffer.getHeight() != bufferHeight) {
+            if (minimapBuffer != null) {
+                minimapBuffer.dispose();
+            }
+            minimapBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, bufferWidth, bufferHeight, false);
+            minimapRegion = new TextureRegion(minimapBuffer.getColorBufferTexture());
+            minimapRegion.flip(false, true);
+        }
+        minimapCamera.setToOrtho(false, minimapWidth, minimapHeight);
+    }
+
+    private void drawMinimapRoom(int row, int col, int playerRoomRow, int playerRoomCol) {
+        if (row < 0 || row >= minimapLayout.length || col < 0 || col >= minimapLayout[row].length)
+            return;
+        RoomData room = minimapLayout[row][col];
+        if (room == null)
+            return;
+
+        float roomSize = minimapRoomSize;
+        float iconSize = roomSize * MINIMAP_ICON_SIZE_RATIO;
+        float x = col * (roomSize + MINIMAP_ROOM_SPACING);
+        float y = (minimapLayout.length - 1 - row) * (roomSize + MINIMAP_ROOM_SPACING);
+        boolean playerRoom = row == playerRoomRow && col == playerRoomCol;
+        fillRect(x, y, roomSize, roomSize, playerRoom ? MINIMAP_PLAYER_FILL : MINIMAP_ROOM_FILL);
+        strokeRect(x, y, roomSize, roomSize, MINIMAP_ROOM_BORDER);
+        batch.draw(minimapIcon(room.type), x + (roomSize - iconSize) / 2f, y + (roomSize - iconSize) / 2f,
+                iconSize, iconSize);
+    }
+
+    private void drawMinimap() {
+        if (minimapRegion == null)
+            return;
+        batch.draw(minimapRegion,
+                layoutWidth - MINIMAP_PADDING - minimapWidth,
+                UI_HEIGHT - MINIMAP_PADDING - minimapHeight,
+                minimapWidth, minimapHeight);
+    }
+
+    private TextureRegion minimapIcon(RoomType type) {
+        if (type == RoomType.START)
+            return startRoomIcon;
+        if (type == RoomType.BOSS)
+            return bossRoomIcon;
+        if (type == RoomType.TRAP)
+            return trapRoomIcon;
+        if (type == RoomType.CHEST)
+            return chestRoomIcon;
+        if (type == RoomType.SHOP)
+            return shopRoomIcon;
+        if (type == RoomType.END)
+            return endRoomIcon;
+        return normalRoomIcon;
+    }
+
+    private void fillRect(float x, float y, float width, float height, Color color) {
+        batch.setColor(color);
+        batch.draw(pixelRegion, x, y, width, height);
+        batch.setColor(Color.WHITE);
+    }
+
+    private void strokeRect(float x, float y, float width, float height, Color color) {
+        batch.setColor(color);
+        batch.draw(pixelRegion, x, y, width, LINE_WIDTH);
+        batch.draw(pixelRegion, x, y + height - LINE_WIDTH, width, LINE_WIDTH);
+        batch.draw(pixelRegion, x, y, LINE_WIDTH, height);
+        batch.draw(pixelRegion, x + width - LINE_WIDTH, y, LINE_WIDTH, height);
+        batch.setColor(Color.WHITE);
     }
 
     public void dispose() {
-        shapeRenderer.dispose();
         batch.dispose();
         backgroundTexture.dispose();
-        heartIcon.dispose();
+        if (minimapBuffer != null) {
+            minimapBuffer.dispose();
+        }
         font.dispose();
-        coinIcon.dispose();
-        keyIcon.dispose();
-        startRoomTexture.dispose();
-        bossRoomTexture.dispose();
-        normalRoomTexture.dispose();
-        trapRoomTexture.dispose();
-        chestRoomTexture.dispose();
-        shopRoomTexture.dispose();
-        endRoomTexture.dispose();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,75 @@
+package project.roguelike.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+
+import project.roguelike.core.AssetRegistry;
+import project.roguelike.core.GameConfig;
+import project.roguelike.entities.EnemyArchetype;
+import project.roguelike.entities.EnemyCrowd;
+import project.roguelike.entities.Player;
+import project.roguelike.rooms.NormalRoom;
+import project.roguelike.rooms.Room;
+
+/** Packs a single room with a large crowd and reports the cost of simulating it per tick. */
+public class CrowdBenchmark {
+    private static final String TAG = "CrowdBenchmark";
+    private static final int DEFAULT_ENEMIES = 10_000;
+    private static final int DEFAULT_TICKS = 600;
+    private static final long SEED = 2137L;
+
+    public static void main(String[] args) {
+        final int enemies = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ENEMIES;
+        final int ticks = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TICKS;
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1;
+
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                run(enemies, ticks);
+                Gdx.app.exit();
+            }
+        }, configuration);
+    }
+
+    private static void run(int enemies, int ticks) {
+        AssetRegistry.setHeadless(true);
+
+        Room room = new NormalRoom(new Vector2(0f, 0f), Room.RoomShape.O_SHAPE);
+        Vector2 center = room.getCenter();
+        Player player = new Player(center.x, center.y, GameConfig.PLAYER_SIZE, GameConfig.PLAYER_SIZE);
+
+        EnemyCrowd crowd = room.getCrowd();
+        EnemyArchetype[] archetypes = { EnemyArchetype.GOBLIN, EnemyArchetype.ORC };
+        RandomXS128 random = new RandomXS128(SEED);
+        for (int i = 0; i < enemies; i++) {
+            crowd.spawn(archetypes[i % archetypes.length],
+                    random.nextFloat() * GameConfig.ROOM_WIDTH,
+                    random.nextFloat() * GameConfig.ROOM_HEIGHT);
+        }
+        room.activate();
+
+        float delta = 1f / GameConfig.SIMULATION_TICK_RATE;
+        long worst = 0;
+        long start = System.nanoTime();
+        for (int tick = 0; tick < ticks; tick++) {
+            long tickStart = System.nanoTime();
+            room.update(delta, player);
+            worst = Math.max(worst, System.nanoTime() - tickStart);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double averageMs = ticks > 0 ? elapsed / 1_000_000.0 / ticks : 0.0;
+        double budgetMs = 1000.0 / GameConfig.SIMULATION_TICK_RATE;
+        Gdx.app.log(TAG, String.format(
+                "enemies=%d ticks=%d alive=%d avgTickMs=%.3f worstTickMs=%.3f budgetMs=%.2f withinBudget=%b",
+                enemies, ticks, crowd.getAliveCount(), averageMs, worst / 1_000_000.0, budgetMs,
+                averageMs <= budgetMs));
+    }
+}
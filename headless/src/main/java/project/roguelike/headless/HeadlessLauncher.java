@@ -0,0 +1,81 @@
+package project.roguelike.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+import project.roguelike.core.GameRandom;
+import project.roguelike.core.HeadlessSimulation;
+import project.roguelike.core.SimulationBot;
+import project.roguelike.levels.Layout1;
+import project.roguelike.levels.Layout2;
+import project.roguelike.levels.Layout3;
+import project.roguelike.levels.Layout4;
+import project.roguelike.levels.Layout5;
+import project.roguelike.levels.Layout6;
+import project.roguelike.levels.RoomData;
+
+/** Runs bot-driven floors without a window, GL context or audio device. */
+public class HeadlessLauncher {
+    private static final String TAG = "HeadlessLauncher";
+    private static final int DEFAULT_FLOORS = 100;
+
+    public static void main(String[] args) {
+        final int floors = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_FLOORS;
+        final long seed = args.length > 1 ? Long.parseLong(args[1]) : GameRandom.newRunSeed();
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        // A negative update rate skips the render loop; the whole run happens in create().
+        configuration.updatesPerSecond = -1;
+
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                runFloors(floors, seed);
+                Gdx.app.exit();
+            }
+        }, configuration);
+    }
+
+    private static void runFloors(int floors, long seed) {
+        GameRandom.seed(seed);
+        RoomData[][][] layouts = {
+                Layout1.layout,
+                Layout2.layout,
+                Layout3.layout,
+                Layout4.layout,
+                Layout5.layout,
+                Layout6.layout
+        };
+
+        HeadlessSimulation simulation = new HeadlessSimulation();
+        SimulationBot bot = new SimulationBot();
+
+        int completed = 0;
+        int deaths = 0;
+        long totalTicks = 0;
+        long totalKills = 0;
+        long start = System.nanoTime();
+
+        for (int i = 0; i < floors; i++) {
+            HeadlessSimulation.FloorResult result = simulation.runFloor(layouts[i % layouts.length], bot);
+            if (result.completed) {
+                completed++;
+            }
+            if (result.playerDied) {
+                deaths++;
+            }
+            totalTicks += result.ticks;
+            totalKills += result.statistics.getEnemiesKilled();
+        }
+
+        float seconds = (System.nanoTime() - start) / 1_000_000_000f;
+        Gdx.app.log(TAG, String.format(
+                "seed=%d floors=%d completed=%d deaths=%d timeouts=%d avgTicks=%.1f avgKills=%.2f elapsed=%.2fs floorsPerSecond=%.1f",
+                seed, floors, completed, deaths, floors - completed - deaths,
+                floors > 0 ? (float) totalTicks / floors : 0f,
+                floors > 0 ? (float) totalKills / floors : 0f,
+                seconds, seconds > 0f ? floors / seconds : 0f));
+    }
+}
@@ -0,0 +1,34 @@
+package project.roguelike.headless;
+
+import project.roguelike.levels.LayoutGenerator;
+
+/** Generates a range of floor seeds and reports any that fail placement or connectivity checks. */
+public class LayoutValidator {
+    private static final int DEFAULT_COUNT = 1_000_000;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COUNT;
+        long firstSeed = args.length > 1 ? Long.parseLong(args[1]) : 0L;
+
+        LayoutGenerator.Settings settings = new LayoutGenerator.Settings();
+        if (args.length > 4) {
+            settings.rows = Integer.parseInt(args[2]);
+            settings.cols = Integer.parseInt(args[3]);
+            settings.roomCount = Integer.parseInt(args[4]);
+        }
+
+        LayoutGenerator generator = new LayoutGenerator(settings);
+        LayoutGenerator.BulkReport report = generator.generateBulk(firstSeed, count);
+
+        System.out.println(String.format(
+                "seeds=%d..%d grid=%dx%d rooms=%d failed=%d invalid=%d firstBadSeed=%d elapsed=%.2fs usPerFloor=%.2f",
+                report.firstSeed, report.firstSeed + report.count - 1,
+                settings.rows, settings.cols, settings.roomCount,
+                report.failed, report.invalid, report.firstBadSeed,
+                report.elapsedNanos / 1_000_000_000.0, report.getMicrosPerFloor()));
+
+        if (report.failed + report.invalid > 0) {
+            System.exit(1);
+        }
+    }
+}
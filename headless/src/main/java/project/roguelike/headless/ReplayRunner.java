@@ -0,0 +1,77 @@
+package project.roguelike.headless;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+
+import project.roguelike.core.GameRandom;
+import project.roguelike.core.HeadlessSimulation;
+import project.roguelike.core.InputRecorder;
+import project.roguelike.core.InputReplay;
+import project.roguelike.core.SimulationBot;
+
+/**
+ * Records bot sessions to input logs and plays logs back without a window at full speed.
+ * Usage: {@code record <file> [floors] [seed]} or {@code play <file> [repeats]}.
+ */
+public class ReplayRunner {
+    private static final String TAG = "ReplayRunner";
+    private static final int DEFAULT_FLOORS = 5;
+    private static final int DEFAULT_REPEATS = 1;
+
+    public static void main(final String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: ReplayRunner record <file> [floors] [seed] | play <file> [repeats]");
+            System.exit(2);
+        }
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1;
+
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                FileHandle file = Gdx.files.absolute(args[1]);
+                if ("record".equals(args[0])) {
+                    int floors = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_FLOORS;
+                    long seed = args.length > 3 ? Long.parseLong(args[3]) : GameRandom.newRunSeed();
+                    record(file, floors, seed);
+                } else {
+                    play(file, args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_REPEATS);
+                }
+                Gdx.app.exit();
+            }
+        }, configuration);
+    }
+
+    private static void record(FileHandle file, int floors, long seed) {
+        InputRecorder recorder = new InputRecorder(seed);
+        HeadlessSimulation.SessionResult result = new HeadlessSimulation()
+                .runSession(seed, floors, new SimulationBot(), recorder);
+        recorder.save(file);
+        log("record", result, recorder.getSizeBytes());
+    }
+
+    private static void play(FileHandle file, int repeats) {
+        byte[] bytes = file.readBytes();
+        HeadlessSimulation simulation = new HeadlessSimulation();
+        for (int i = 0; i < repeats; i++) {
+            InputReplay replay = new InputReplay(bytes);
+            HeadlessSimulation.SessionResult result = simulation.runReplay(replay);
+            log("play", result, bytes.length);
+            if (replay.hasNext()) {
+                Gdx.app.error(TAG, "Replay diverged: session ended with " + (replay.getTickCount() - replay.getTick())
+                        + " ticks left");
+            }
+        }
+    }
+
+    private static void log(String mode, HeadlessSimulation.SessionResult result, int bytes) {
+        Gdx.app.log(TAG, String.format(
+                "mode=%s seed=%d floors=%d completed=%d died=%b ticks=%d bytes=%d elapsed=%.2fs ticksPerSecond=%.0f",
+                mode, result.runSeed, result.floors, result.completedFloors, result.playerDied, result.ticks, bytes,
+                result.elapsedNanos / 1_000_000_000.0, result.getTicksPerSecond()));
+    }
+}
@@ -10,11 +10,20 @@ public class Lwjgl3Launcher {
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired())
             return; // This handles macOS support and helps on Windows.
-        createApplication();
+        createApplication(findReplayPath(args));
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new RogueHammerGame(), getDefaultConfiguration());
+    private static Lwjgl3Application createApplication(String replayPath) {
+        return new Lwjgl3Application(new RogueHammerGame(replayPath), getDefaultConfiguration());
+    }
+
+    private static String findReplayPath(String[] args) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if ("--replay".equals(args[i])) {
+                return args[i + 1];
+            }
+        }
+        return null;
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {